@@ -0,0 +1,107 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package co.aikar.timings;
+
+import co.aikar.util.JSONUtil;
+import com.google.gson.JsonObject;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tick times of a world over the last fifteen minutes, kept as one
+ * {@link TimingHistogram} per minute so percentiles over the last 1, 5 or 15
+ * minutes can be read at any time.
+ */
+public class RollingTickTimes {
+
+    private static final int MINUTES = 15;
+    private static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final TimingHistogram[] minutes = new TimingHistogram[MINUTES];
+    private final TimingHistogram merged = new TimingHistogram();
+    private int current;
+    private long currentStart = System.nanoTime();
+
+    public RollingTickTimes() {
+        for (int i = 0; i < MINUTES; i++) {
+            this.minutes[i] = new TimingHistogram();
+        }
+    }
+
+    /**
+     * Records the duration of a tick.
+     *
+     * @param nanos The tick time in nanoseconds
+     */
+    public void record(long nanos) {
+        rotate(System.nanoTime());
+        this.minutes[this.current].record(nanos);
+    }
+
+    private void rotate(long now) {
+        long elapsed = now - this.currentStart;
+        if (elapsed < MINUTE) {
+            return;
+        }
+        // Clear every minute that passed, at most the whole window
+        long passed = Math.min(MINUTES, elapsed / MINUTE);
+        for (int i = 0; i < passed; i++) {
+            this.current = (this.current + 1) % MINUTES;
+            this.minutes[this.current].reset();
+        }
+        this.currentStart += (elapsed / MINUTE) * MINUTE;
+    }
+
+    /**
+     * Gets the 50th, 95th and 99th percentile and the maximum tick time over
+     * the last minutes, including the current one.
+     *
+     * @param minutes The number of minutes, between 1 and 15
+     * @return The tick times in nanoseconds
+     */
+    public long[] getPercentiles(int minutes) {
+        TimingHistogram histogram = merge(minutes);
+        return new long[] {histogram.getPercentile(50), histogram.getPercentile(95), histogram.getPercentile(99), histogram.getMax()};
+    }
+
+    JsonObject export() {
+        return JSONUtil.objectBuilder()
+                .add("1m", merge(1).export())
+                .add("5m", merge(5).export())
+                .add("15m", merge(15).export())
+                .build();
+    }
+
+    private TimingHistogram merge(int minutes) {
+        rotate(System.nanoTime());
+        this.merged.reset();
+        int count = Math.max(1, Math.min(MINUTES, minutes));
+        for (int i = 0; i < count; i++) {
+            this.merged.add(this.minutes[(this.current - i + MINUTES) % MINUTES]);
+        }
+        return this.merged;
+    }
+
+}
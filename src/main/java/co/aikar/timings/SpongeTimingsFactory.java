@@ -177,6 +177,16 @@ public void generateReport(CommandSource sender) {
         TimingsExport.reportTimings(sender);
     }
 
+    /**
+     * Writes a timings report to the local timings folder instead of
+     * uploading it.
+     *
+     * @param sender Who to report to
+     */
+    public static void generateLocalReport(CommandSource sender) {
+        TimingsExport.reportTimings(sender, true);
+    }
+
     public static long getCost() {
         return TimingsExport.getCost();
     }
@@ -42,7 +42,7 @@ public TimingData apply(Integer input) {
             return new TimingData(input);
         }
     };
-    private int id;
+    final int id;
     int count = 0;
     private int lagCount = 0;
     long totalTime = 0;
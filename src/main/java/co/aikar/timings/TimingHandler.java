@@ -26,9 +26,10 @@
 
 import co.aikar.util.LoadingIntMap;
 import gnu.trove.map.hash.TIntObjectHashMap;
-import net.minecraft.server.MinecraftServer;
 import org.spongepowered.common.SpongeImpl;
 
+import javax.annotation.Nullable;
+
 class TimingHandler implements Timing {
 
     private static int idPool = 1;
@@ -40,6 +41,8 @@ class TimingHandler implements Timing {
     final TIntObjectHashMap<TimingData> children = new LoadingIntMap<>(TimingData.LOADER);
 
     final TimingData record;
+    // Allocated on the first recorded value, then reused across resets
+    @Nullable TimingHistogram histogram;
     private final TimingHandler groupHandler;
 
     private long start = 0;
@@ -66,7 +69,7 @@ class TimingHandler implements Timing {
     }
 
     final void checkEnabled() {
-        this.enabled = Timings.isTimingsEnabled() && (!this.verbose || Timings.isVerboseTimingsEnabled());
+        this.enabled = Timings.isTimingsEnabled() && (!this.verbose || Timings.isVerboseTimingsEnabled()) && !TimingsManager.isClient();
     }
 
     void processTick(boolean violated) {
@@ -84,29 +87,21 @@ void processTick(boolean violated) {
 
     @Override
     public void startTimingIfSync() {
-        if (!this.enabled || SpongeImpl.getGame().getPlatform().getExecutionType().isClient()) {
-            return;
-        }
-
-        if (MinecraftServer.getServer().isCallingFromMinecraftThread()) {
+        if (this.enabled && TimingsManager.isMainThread()) {
             startTiming();
         }
     }
 
     @Override
     public void stopTimingIfSync() {
-        if (!this.enabled || SpongeImpl.getGame().getPlatform().getExecutionType().isClient()) {
-            return;
-        }
-
-        if (MinecraftServer.getServer().isCallingFromMinecraftThread()) {
+        if (this.enabled && TimingsManager.isMainThread()) {
             stopTiming();
         }
     }
 
     @Override
     public TimingHandler startTiming() {
-        if (!this.enabled || SpongeImpl.getGame().getPlatform().getExecutionType().isClient()) {
+        if (!this.enabled) {
             return this;
         }
 
@@ -120,12 +115,12 @@ public TimingHandler startTiming() {
 
     @Override
     public void stopTiming() {
-        if (!this.enabled || SpongeImpl.getGame().getPlatform().getExecutionType().isClient()) {
+        if (!this.enabled) {
             return;
         }
 
         if (--this.timingDepth == 0 && this.start != 0) {
-            if (!MinecraftServer.getServer().isCallingFromMinecraftThread()) {
+            if (!TimingsManager.isMainThread()) {
                 SpongeImpl.getLogger().fatal("stopTiming called async for " + this.name);
                 new Throwable().printStackTrace();
                 this.start = 0;
@@ -151,6 +146,10 @@ void addDiff(long diff) {
             }
         }
         this.record.add(diff);
+        if (this.histogram == null) {
+            this.histogram = new TimingHistogram();
+        }
+        this.histogram.record(diff);
         if (!this.added) {
             this.added = true;
             this.timed = true;
@@ -169,6 +168,9 @@ void addDiff(long diff) {
      */
     void reset(boolean full) {
         this.record.reset();
+        if (this.histogram != null) {
+            this.histogram.reset();
+        }
         if (full) {
             this.timed = false;
         }
@@ -0,0 +1,140 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package co.aikar.timings;
+
+import co.aikar.util.JSONUtil;
+import com.google.gson.JsonArray;
+
+import java.util.Arrays;
+
+/**
+ * A fixed size log-linear histogram of durations. Every power of two is split
+ * into eight buckets so any recorded value is reported within 12.5% of its
+ * real duration, without allocating or sorting anything while recording.
+ */
+class TimingHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Microseconds up to 2^40, or roughly twelve days
+    private static final int MAX_EXPONENT = 40;
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final int[] counts = new int[BUCKET_COUNT];
+    private long count;
+    private long max;
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos The duration in nanoseconds
+     */
+    void record(long nanos) {
+        this.counts[bucketIndex(nanos / 1000)]++;
+        this.count++;
+        if (nanos > this.max) {
+            this.max = nanos;
+        }
+    }
+
+    void add(TimingHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            this.counts[i] += other.counts[i];
+        }
+        this.count += other.count;
+        this.max = Math.max(this.max, other.max);
+    }
+
+    void reset() {
+        if (this.count != 0) {
+            Arrays.fill(this.counts, 0);
+            this.count = 0;
+            this.max = 0;
+        }
+    }
+
+    long getCount() {
+        return this.count;
+    }
+
+    long getMax() {
+        return this.max;
+    }
+
+    /**
+     * Gets the duration below which the given percentage of recorded values
+     * fall, as the upper bound of the bucket holding it.
+     *
+     * @param percentile The percentile, between 0 and 100
+     * @return The duration in nanoseconds, or 0 if nothing was recorded
+     */
+    long getPercentile(double percentile) {
+        if (this.count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(this.count * percentile / 100D));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += this.counts[i];
+            if (seen >= target) {
+                return Math.min(this.max, bucketUpperBound(i) * 1000 + 999);
+            }
+        }
+        return this.max;
+    }
+
+    /**
+     * Exports the 50th, 95th and 99th percentile and the maximum.
+     *
+     * @return The exported values, in nanoseconds
+     */
+    JsonArray export() {
+        return JSONUtil.arrayOf(getPercentile(50), getPercentile(95), getPercentile(99), this.max);
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) Math.max(0, micros);
+        }
+        int exponent = Math.min(MAX_EXPONENT, 63 - Long.numberOfLeadingZeros(micros));
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        if (exponent == MAX_EXPONENT && micros >>> MAX_EXPONENT > 1) {
+            // Clamp anything beyond the range into the last bucket
+            subBucket = SUB_BUCKETS - 1;
+        }
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKETS;
+        int shift = exponent - SUB_BUCKET_BITS;
+        return ((SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+
+}
@@ -34,6 +34,7 @@
 import com.google.common.collect.Sets;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 import net.minecraft.block.Block;
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.block.tileentity.TileEntity;
@@ -43,6 +44,7 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.entity.SpongeEntityType;
 
+import java.io.IOException;
 import java.lang.management.ManagementFactory;
 import java.util.Collection;
 import java.util.Map;
@@ -153,9 +155,50 @@ JsonObject export() {
                 .add("w", this.worlds)
                 .add("h", JSONUtil.mapArray(this.entries, (entry) -> entry.data.count == 0 ? null : entry.export()))
                 .add("mp", JSONUtil.mapArray(this.minuteReports, MinuteReport::export))
+                .add("pc", JSONUtil.mapArrayToObject(this.entries, (entry) -> {
+                    return entry.percentiles == null ? null : JSONUtil.singleObjectPair(entry.id, entry.percentiles);
+                }))
                 .build();
     }
 
+    /**
+     * Writes the same structure as {@link #export()} straight to the stream,
+     * one handler entry at a time.
+     *
+     * @param writer The stream to write to
+     * @throws IOException If the stream could not be written to
+     */
+    void export(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("s").value(this.startTime);
+        writer.name("e").value(this.endTime);
+        writer.name("tk").value(this.totalTicks);
+        writer.name("tm").value(this.totalTime);
+        writer.name("w");
+        JSONUtil.write(this.worlds, writer);
+        writer.name("h").beginArray();
+        for (TimingHistoryEntry entry : this.entries) {
+            if (entry.data.count != 0) {
+                JSONUtil.write(entry.export(), writer);
+            }
+        }
+        writer.endArray();
+        writer.name("mp").beginArray();
+        for (MinuteReport minuteReport : this.minuteReports) {
+            JSONUtil.write(minuteReport.export(), writer);
+        }
+        writer.endArray();
+        writer.name("pc").beginObject();
+        for (TimingHistoryEntry entry : this.entries) {
+            if (entry.percentiles != null) {
+                writer.name(String.valueOf(entry.id));
+                JSONUtil.write(entry.percentiles, writer);
+            }
+        }
+        writer.endObject();
+        writer.endObject();
+    }
+
     static class MinuteReport {
 
         final long time = System.currentTimeMillis() / 1000;
@@ -27,13 +27,19 @@
 import co.aikar.util.JSONUtil;
 import com.google.gson.JsonArray;
 
+import javax.annotation.Nullable;
+
 class TimingHistoryEntry {
 
+    final int id;
     final TimingData data;
     final TimingData[] children;
+    @Nullable final JsonArray percentiles;
 
     TimingHistoryEntry(TimingHandler handler) {
+        this.id = handler.id;
         this.data = handler.record.clone();
+        this.percentiles = handler.histogram == null || handler.histogram.getCount() == 0 ? null : handler.histogram.export();
         this.children = new TimingData[handler.children.size()];
         int i = 0;
         for (TimingData child : handler.children.valueCollection()) {
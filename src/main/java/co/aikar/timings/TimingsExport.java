@@ -33,6 +33,10 @@
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.set.TIntSet;
+import gnu.trove.set.hash.TIntHashSet;
 import net.minecraft.block.Block;
 import net.minecraft.server.MinecraftServer;
 import ninja.leaping.configurate.ConfigurationNode;
@@ -47,6 +51,9 @@
 import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.entity.SpongeEntityType;
+import org.spongepowered.common.interfaces.world.IMixinWorld;
+import org.spongepowered.common.scheduler.AsyncTaskPool;
+import org.spongepowered.common.scheduler.SpongeScheduler;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -88,6 +95,17 @@ private static String getServerName() {
      * @param sender Who to report to
      */
     static void reportTimings(CommandSource sender) {
+        reportTimings(sender, false);
+    }
+
+    /**
+     * Builds a report of the timings, either to be uploaded for parsing or
+     * written to the local timings folder.
+     *
+     * @param sender Who to report to
+     * @param local Whether to write the report to disk instead of uploading it
+     */
+    static void reportTimings(CommandSource sender, boolean local) {
         Platform platform = SpongeImpl.getGame().getPlatform();
         JsonObjectBuilder builder = JSONUtil.objectBuilder()
                 // Get some basic system details about the server
@@ -119,6 +137,31 @@ static void reportTimings(CommandSource sender) {
                     return JSONUtil.singleObjectPair(input.getName(), JSONUtil.arrayOf(input.getCollectionCount(), input.getCollectionTime()));
                 })));
 
+        final AsyncTaskPool asyncPool = SpongeScheduler.getInstance().getAsyncTaskPool();
+        builder.add("scheduler", JSONUtil.objectBuilder()
+                .add("activethreads", asyncPool.getActiveThreads())
+                .add("poolsize", asyncPool.getPoolSize())
+                .add("maxpoolsize", asyncPool.getMaximumPoolSize())
+                .add("queuedepth", asyncPool.getQueueDepth())
+                .add("queuecapacity", asyncPool.getQueueCapacity())
+                .add("completed", asyncPool.getCompletedTasks())
+                .add("plugins", JSONUtil.mapArrayToObject(asyncPool.getPluginMetrics().values(), (metrics) -> {
+                    // submitted, completed, rejected, active, backlog, wait and run time in nanoseconds
+                    return JSONUtil.singleObjectPair(metrics.getPluginId(), JSONUtil.arrayOf(metrics.getSubmitted(), metrics.getCompleted(),
+                            metrics.getRejected(), metrics.getActive(), metrics.getBacklog(), metrics.getTotalWaitTime(), metrics.getTotalRunTime()));
+                })));
+
+        builder.add("ticktimes", JSONUtil.mapArrayToObject(SpongeImpl.getGame().getServer().getWorlds(), (world) -> {
+            return JSONUtil.singleObjectPair(world.getName(), ((IMixinWorld) world).getTimingsHandler().tickTimes.export());
+        }));
+
+        builder.add("chunkgc", JSONUtil.mapArrayToObject(SpongeImpl.getGame().getServer().getWorlds(), (world) -> {
+            final WorldTimingsHandler handler = ((IMixinWorld) world).getTimingsHandler();
+            // scanned, queued and reclaimed chunks
+            return JSONUtil.singleObjectPair(world.getName(),
+                    JSONUtil.arrayOf(handler.chunkGCScanned, handler.chunkGCQueued, handler.chunkGCReclaimed));
+        }));
+
         Set<BlockType> blockTypeSet = Sets.newHashSet();
         Set<EntityType> entityTypeSet = Sets.newHashSet();
 
@@ -136,6 +179,7 @@ static void reportTimings(CommandSource sender) {
         entityTypeSet.addAll(history[i].entityTypeSet);
 
         JsonObjectBuilder handlersBuilder = JSONUtil.objectBuilder();
+        TIntObjectMap<String> frameNames = new TIntObjectHashMap<>();
         for (TimingIdentifier.TimingGroup group : TimingIdentifier.GROUP_MAP.values()) {
             for (TimingHandler id : group.handlers) {
                 if (!id.timed && !id.isSpecial()) {
@@ -144,6 +188,7 @@ static void reportTimings(CommandSource sender) {
                 handlersBuilder.add(id.id, JSONUtil.arrayOf(
                         group.id,
                         id.name));
+                frameNames.put(id.id, group == TimingIdentifier.DEFAULT_GROUP ? id.name : group.name + "::" + id.name);
             }
         }
 
@@ -178,7 +223,20 @@ static void reportTimings(CommandSource sender) {
         builder.add("config", JSONUtil.objectBuilder()
                 .add("sponge", serializeConfigNode(SpongeImpl.getGlobalConfig().getRootNode())));
 
-        new TimingsExport(sender, builder.build(), history).start();
+        if (local) {
+            // Group handlers only aggregate their members, so they are left out of the call tree
+            TIntSet groupHandlers = new TIntHashSet();
+            synchronized (TimingsManager.TIMING_MAP) {
+                for (TimingIdentifier identifier : TimingsManager.TIMING_MAP.keySet()) {
+                    if (identifier.groupHandler != null) {
+                        groupHandlers.add(identifier.groupHandler.id);
+                    }
+                }
+            }
+            new TimingsFileExport(sender, builder.build(), history, frameNames, groupHandlers).start();
+        } else {
+            new TimingsExport(sender, builder.build(), history).start();
+        }
     }
 
     static long getCost() {
@@ -0,0 +1,230 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package co.aikar.timings;
+
+import co.aikar.util.JSONUtil;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+import gnu.trove.iterator.TIntLongIterator;
+import gnu.trove.map.TIntLongMap;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntLongHashMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.set.TIntSet;
+import gnu.trove.set.hash.TIntHashSet;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.source.ConsoleSource;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.format.TextColors;
+import org.spongepowered.common.SpongeImpl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map.Entry;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes a timings report to the local timings folder instead of uploading
+ * it, for servers that cannot reach the timings site.
+ *
+ * <p>Each report is written as a gzipped JSON file in the same format that
+ * is uploaded, alongside a collapsed stack file of the handler call tree that
+ * flame graph tools can read. A standalone viewer page is kept next to
+ * them.</p>
+ */
+class TimingsFileExport extends Thread {
+
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss");
+    private static final String VIEWER_FILE = "viewer.html";
+    // Guards against runaway recursion through handlers that time each other
+    private static final int MAX_STACK_DEPTH = 64;
+
+    private final CommandSource sender;
+    private final JsonObject out;
+    private final TimingHistory[] history;
+    private final TIntObjectMap<String> frameNames;
+    private final TIntSet groupHandlers;
+
+    TimingsFileExport(CommandSource sender, JsonObject out, TimingHistory[] history, TIntObjectMap<String> frameNames, TIntSet groupHandlers) {
+        super("Timings export thread");
+        this.sender = sender;
+        this.out = out;
+        this.history = history;
+        this.frameNames = frameNames;
+        this.groupHandlers = groupHandlers;
+    }
+
+    @Override
+    public void run() {
+        this.sender.sendMessage(Text.of(TextColors.GREEN, "Preparing Timings Report..."));
+
+        Path directory = SpongeImpl.getGameDir().resolve("timings");
+        String baseName = "timings-" + LocalDateTime.now().format(FILE_DATE_FORMAT);
+        try {
+            Files.createDirectories(directory);
+            Path report = directory.resolve(baseName + ".json.gz");
+            writeReport(report);
+            writeCollapsedStacks(directory.resolve(baseName + ".folded"));
+            writeViewer(directory.resolve(VIEWER_FILE));
+
+            String location = report.toAbsolutePath().toString();
+            this.sender.sendMessage(Text.of(TextColors.GREEN, "Timings Report written to: ", location));
+            this.sender.sendMessage(Text.of(TextColors.GREEN, "Open it with ", VIEWER_FILE, " in the same folder."));
+            if (!(this.sender instanceof ConsoleSource)) {
+                SpongeImpl.getLogger().info("Timings Report written to: " + location);
+            }
+        } catch (IOException ex) {
+            this.sender.sendMessage(Text.of(TextColors.RED, "Error writing timings, check your logs for more information"));
+            SpongeImpl.getLogger().fatal("Could not write timings", ex);
+        }
+    }
+
+    private void writeReport(Path path) throws IOException {
+        try (JsonWriter writer = new JsonWriter(new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(path), 65536),
+                StandardCharsets.UTF_8))) {
+            writer.beginObject();
+            for (Entry<String, JsonElement> entry : this.out.entrySet()) {
+                writer.name(entry.getKey());
+                JSONUtil.write(entry.getValue(), writer);
+            }
+            // Histories are written one at a time rather than gathered into a single object
+            writer.name("data").beginArray();
+            for (TimingHistory timingHistory : this.history) {
+                timingHistory.export(writer);
+            }
+            writer.endArray();
+            writer.endObject();
+        }
+    }
+
+    /**
+     * Writes the handler call tree in the collapsed stack format, one
+     * <code>root;child;grandchild micros</code> line per path with the time
+     * spent in the last frame itself.
+     *
+     * <p>Handlers only track their total time under each direct parent, so
+     * the time of a shared handler's own children is split between its
+     * parents in proportion to the time spent under each.</p>
+     */
+    private void writeCollapsedStacks(Path path) throws IOException {
+        TIntLongMap totals = new TIntLongHashMap();
+        TIntObjectMap<TIntLongMap> edges = new TIntObjectHashMap<>();
+        for (TimingHistory timingHistory : this.history) {
+            for (TimingHistoryEntry entry : timingHistory.entries) {
+                totals.adjustOrPutValue(entry.id, entry.data.totalTime, entry.data.totalTime);
+                if (this.groupHandlers.contains(entry.id)) {
+                    continue;
+                }
+                for (TimingData child : entry.children) {
+                    if (child.totalTime <= 0) {
+                        continue;
+                    }
+                    TIntLongMap childTimes = edges.get(entry.id);
+                    if (childTimes == null) {
+                        childTimes = new TIntLongHashMap();
+                        edges.put(entry.id, childTimes);
+                    }
+                    childTimes.adjustOrPutValue(child.id, child.totalTime, child.totalTime);
+                }
+            }
+        }
+
+        TIntSet roots = new TIntHashSet(totals.keySet());
+        roots.removeAll(this.groupHandlers);
+        for (TIntLongMap childTimes : edges.valueCollection()) {
+            roots.removeAll(childTimes.keySet());
+        }
+
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(path), StandardCharsets.UTF_8))) {
+            StringBuilder stack = new StringBuilder();
+            TIntSet onStack = new TIntHashSet();
+            for (int root : roots.toArray()) {
+                writeStack(writer, stack, onStack, totals, edges, root, totals.get(root));
+            }
+        }
+    }
+
+    private void writeStack(Writer writer, StringBuilder stack, TIntSet onStack, TIntLongMap totals, TIntObjectMap<TIntLongMap> edges,
+            int id, long time) throws IOException {
+        int length = stack.length();
+        if (length > 0) {
+            stack.append(';');
+        }
+        stack.append(getFrameName(id));
+        onStack.add(id);
+
+        long childrenTime = 0;
+        TIntLongMap childTimes = edges.get(id);
+        long total = totals.get(id);
+        if (childTimes != null && total > 0 && onStack.size() < MAX_STACK_DEPTH) {
+            double scale = Math.min(1D, (double) time / total);
+            for (TIntLongIterator it = childTimes.iterator(); it.hasNext(); ) {
+                it.advance();
+                long childTime = Math.round(it.value() * scale);
+                if (childTime <= 0 || onStack.contains(it.key())) {
+                    continue;
+                }
+                childrenTime += childTime;
+                writeStack(writer, stack, onStack, totals, edges, it.key(), childTime);
+            }
+        }
+
+        long selfMicros = (time - childrenTime) / 1000;
+        if (selfMicros > 0) {
+            writer.append(stack).append(' ').append(Long.toString(selfMicros)).append('\n');
+        }
+
+        onStack.remove(id);
+        stack.setLength(length);
+    }
+
+    private String getFrameName(int id) {
+        String name = this.frameNames.get(id);
+        if (name == null) {
+            name = "Unknown #" + id;
+        }
+        // Semicolons separate frames and the last space separates the value
+        return name.replace(';', ',').replace('\n', ' ');
+    }
+
+    private static void writeViewer(Path path) throws IOException {
+        try (InputStream in = TimingsFileExport.class.getResourceAsStream(VIEWER_FILE)) {
+            if (in == null) {
+                throw new IOException("Missing timings viewer resource");
+            }
+            Files.copy(in, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
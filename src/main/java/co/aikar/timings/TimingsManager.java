@@ -26,6 +26,7 @@
 
 import co.aikar.util.LoadingMap;
 import com.google.common.collect.EvictingQueue;
+import net.minecraft.server.MinecraftServer;
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.command.CommandMapping;
 import org.spongepowered.common.SpongeImpl;
@@ -60,10 +61,35 @@ public final class TimingsManager {
     static long historyStart = 0;
     static boolean needsFullReset = false;
     static boolean needsRecheckEnabled = false;
+    // Resolved once, as asking the platform and server on every timing is too costly
+    private static volatile Thread mainThread;
+    private static Boolean client;
 
     private TimingsManager() {
     }
 
+    static boolean isMainThread() {
+        final Thread mainThread = TimingsManager.mainThread;
+        if (mainThread != null) {
+            return Thread.currentThread() == mainThread;
+        }
+        final MinecraftServer server = MinecraftServer.getServer();
+        if (server == null || !server.isCallingFromMinecraftThread()) {
+            return false;
+        }
+        TimingsManager.mainThread = Thread.currentThread();
+        return true;
+    }
+
+    static boolean isClient() {
+        Boolean client = TimingsManager.client;
+        if (client == null) {
+            client = SpongeImpl.getGame().getPlatform().getExecutionType().isClient();
+            TimingsManager.client = client;
+        }
+        return client;
+    }
+
     /**
      * Resets all timing data on the next tick
      */
@@ -75,6 +75,14 @@ public class WorldTimingsHandler {
     // Chunk population
     public final Timing chunkPopulate;
 
+    // Tick times of the world over the last minutes
+    public final RollingTickTimes tickTimes = new RollingTickTimes();
+
+    // Chunk GC totals since the world was loaded
+    public long chunkGCScanned;
+    public long chunkGCQueued;
+    public long chunkGCReclaimed;
+
     public WorldTimingsHandler(World world) {
         String name = world.getWorldInfo().getWorldName() + " - ";
 
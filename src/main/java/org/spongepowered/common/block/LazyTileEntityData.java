@@ -0,0 +1,118 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.block;
+
+import com.google.common.collect.ImmutableList;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
+import org.spongepowered.api.data.manipulator.DataManipulator;
+import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
+import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
+
+import javax.annotation.Nullable;
+
+/**
+ * The tile entity data of a captured {@link SpongeBlockSnapshot}, serialized
+ * from the live tile entity the first time it is read rather than when the
+ * snapshot is taken.
+ *
+ * <p>Snapshots of the same tile entity share one instance until it is
+ * serialized, which also happens right before the tile entity is changed, so
+ * the data still reflects the original block. A tile entity removed by a block
+ * change is detached from the world and kept as it is. The cause tracker
+ * serializes it on the main thread before a captured snapshot is handed out,
+ * so it is never read from the live tile entity on another thread, and
+ * releases it when the capture is discarded.</p>
+ */
+public final class LazyTileEntityData {
+
+    @Nullable private TileEntity tileEntity;
+    @Nullable private NBTTagCompound compound;
+    private int references;
+    private ImmutableList<ImmutableDataManipulator<?, ?>> manipulators = ImmutableList.of();
+
+    public LazyTileEntityData(TileEntity tileEntity) {
+        this.tileEntity = tileEntity;
+    }
+
+    public synchronized boolean isMaterialized() {
+        return this.tileEntity == null;
+    }
+
+    /**
+     * Registers a snapshot sharing this data.
+     */
+    public synchronized void retain() {
+        this.references++;
+    }
+
+    /**
+     * Unregisters a snapshot that was discarded without being read. Once no
+     * snapshot uses this data anymore, the tile entity is released without
+     * being serialized.
+     */
+    public synchronized void release() {
+        if (--this.references > 0 || this.tileEntity == null) {
+            return;
+        }
+        final TileEntity tileEntity = this.tileEntity;
+        this.tileEntity = null;
+        ((IMixinTileEntity) tileEntity).discardSnapshotData(this);
+    }
+
+    /**
+     * Serializes the tile entity, if it has not been already, and releases it.
+     */
+    public synchronized void materialize() {
+        if (this.tileEntity == null) {
+            return;
+        }
+        final TileEntity tileEntity = this.tileEntity;
+        this.tileEntity = null;
+        final ImmutableList.Builder<ImmutableDataManipulator<?, ?>> builder = ImmutableList.builder();
+        for (DataManipulator<?, ?> manipulator : ((org.spongepowered.api.block.tileentity.TileEntity) tileEntity).getContainers()) {
+            builder.add(manipulator.asImmutable());
+        }
+        this.manipulators = builder.build();
+        this.compound = new NBTTagCompound();
+        tileEntity.writeToNBT(this.compound);
+    }
+
+    /**
+     * Gets the serialized tile entity. The compound is shared and must not be
+     * modified.
+     *
+     * @return The serialized tile entity
+     */
+    public synchronized NBTTagCompound getCompound() {
+        materialize();
+        return this.compound;
+    }
+
+    public synchronized ImmutableList<ImmutableDataManipulator<?, ?>> getManipulators() {
+        materialize();
+        return this.manipulators;
+    }
+}
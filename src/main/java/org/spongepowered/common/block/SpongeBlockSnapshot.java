@@ -75,13 +75,15 @@ public class SpongeBlockSnapshot implements BlockSnapshot {
     private final BlockState extendedState;
     private final UUID worldUniqueId;
     private final Vector3i pos;
-    private final ImmutableList<ImmutableDataManipulator<?, ?>> extraData;
-    private final ImmutableMap<Key<?>, ImmutableValue<?>> keyValueMap;
-    private final ImmutableSet<ImmutableValue<?>> valueSet;
+    // Tile entity data, filled in from tileData the first time it is needed
+    private ImmutableList<ImmutableDataManipulator<?, ?>> extraData;
+    private ImmutableMap<Key<?>, ImmutableValue<?>> keyValueMap;
+    private ImmutableSet<ImmutableValue<?>> valueSet;
     private final ImmutableList<ImmutableDataManipulator<?, ?>> blockData;
     private final ImmutableMap<Key<?>, ImmutableValue<?>> blockKeyValueMap;
     private final ImmutableSet<ImmutableValue<?>> blockValueSet;
-    @Nullable final NBTTagCompound compound;
+    @Nullable private NBTTagCompound compound;
+    @Nullable private LazyTileEntityData tileData;
     @Nullable final UUID creatorUniqueId;
     @Nullable final UUID notifierUniqueId;
     // Internal use only
@@ -111,9 +113,18 @@ public SpongeBlockSnapshot(SpongeBlockSnapshotBuilder builder) {
         this.blockValueSet = ImmutableSet.copyOf(this.blockKeyValueMap.values());
         this.blockData = ImmutableList.copyOf(this.blockState.getContainers());
 
+        if (builder.tileData != null && builder.manipulators == null && builder.compound == null) {
+            this.tileData = builder.tileData;
+        } else {
+            setTileData(builder.manipulators == null ? ImmutableList.<ImmutableDataManipulator<?, ?>>of() : ImmutableList.copyOf(builder.manipulators),
+                    builder.compound == null ? null : (NBTTagCompound) builder.compound.copy());
+        }
+    }
+
+    private void setTileData(ImmutableList<ImmutableDataManipulator<?, ?>> extraData, @Nullable NBTTagCompound compound) {
         // This avoids cross contamination of block state based values versus tile entity values.
         final ImmutableMap.Builder<Key<?>, ImmutableValue<?>> tileBuilder = ImmutableMap.builder();
-        this.extraData = builder.manipulators == null ? ImmutableList.<ImmutableDataManipulator<?, ?>>of() : ImmutableList.copyOf(builder.manipulators);
+        this.extraData = extraData;
         for (ImmutableDataManipulator<?, ?> manipulator : this.extraData) {
             for (ImmutableValue<?> value : manipulator.getValues()) {
                 tileBuilder.put(value.getKey(), value);
@@ -121,8 +132,30 @@ public SpongeBlockSnapshot(SpongeBlockSnapshotBuilder builder) {
         }
         this.keyValueMap = tileBuilder.build();
         this.valueSet = ImmutableSet.copyOf(this.keyValueMap.values());
-        this.compound = builder.compound == null ? null : (NBTTagCompound) builder.compound.copy();
+        this.compound = compound;
+    }
+
+    /**
+     * Serializes the tile entity data of this snapshot if it was captured
+     * lazily. Must be called on the main thread before a captured snapshot
+     * is handed out.
+     */
+    public synchronized void resolveTileData() {
+        if (this.tileData != null) {
+            setTileData(this.tileData.getManipulators(), this.tileData.getCompound());
+            this.tileData = null;
+        }
+    }
 
+    /**
+     * Releases the lazily captured tile entity data of a snapshot that is
+     * discarded without being handed out, so it is never serialized.
+     */
+    public synchronized void discardTileData() {
+        if (this.tileData != null) {
+            this.tileData.release();
+            this.tileData = null;
+        }
     }
 
     @Override
@@ -184,6 +217,7 @@ public boolean restore(boolean force, boolean notifyNeighbors) {
             return false;
         }
 
+        resolveTileData();
         world.setBlockState(pos, replaced, notifyNeighbors ? 3 : 2);
         world.markBlockForUpdate(pos);
         if (this.compound != null) {
@@ -220,6 +254,7 @@ public Optional<Location<World>> getLocation() {
 
     @Override
     public List<ImmutableDataManipulator<?, ?>> getManipulators() {
+        resolveTileData();
         return ImmutableList.<ImmutableDataManipulator<?, ?>>builder().addAll(this.blockData).addAll(this.extraData).build();
     }
 
@@ -239,6 +274,7 @@ public DataContainer toContainer() {
                 .set(Queries.POSITION_Z, this.pos.getZ())
             .getContainer()
             .set(DataQueries.BLOCK_STATE, this.blockState);
+        resolveTileData();
 
         if (this.blockState != this.extendedState) {
             container.set(DataQueries.BLOCK_EXTENDED_STATE, this.extendedState);
@@ -259,6 +295,7 @@ public DataContainer toContainer() {
         if (optional.isPresent()) {
             return optional;
         } else {
+            resolveTileData();
             for (ImmutableDataManipulator<?, ?> dataManipulator : this.extraData) {
                 if (containerClass.isInstance(dataManipulator)) {
                     return Optional.of(((T) dataManipulator));
@@ -363,6 +400,7 @@ public BlockSnapshot merge(BlockSnapshot that, MergeFunction function) {
 
     @Override
     public <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
+        resolveTileData();
         if (this.keyValueMap.containsKey(key)) {
             return Optional.of((E) this.keyValueMap.get(key).get());
         } else if (this.blockKeyValueMap.containsKey(key)) {
@@ -373,6 +411,7 @@ public <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
 
     @Override
     public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
+        resolveTileData();
         if (this.keyValueMap.containsKey(key)) {
             return Optional.of((V) this.keyValueMap.get(key).asMutable());
         } else if (this.blockKeyValueMap.containsKey(key)) {
@@ -384,6 +423,7 @@ public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
     @Override
     public boolean supports(Key<?> key) {
         checkNotNull(key, "Key");
+        resolveTileData();
         return this.keyValueMap.containsKey(key) || this.blockKeyValueMap.containsKey(key);
     }
 
@@ -394,15 +434,18 @@ public BlockSnapshot copy() {
 
     @Override
     public Set<Key<?>> getKeys() {
+        resolveTileData();
         return ImmutableSet.<Key<?>>builder().addAll(this.keyValueMap.keySet()).addAll(this.blockKeyValueMap.keySet()).build();
     }
 
     @Override
     public Set<ImmutableValue<?>> getValues() {
+        resolveTileData();
         return ImmutableSet.<ImmutableValue<?>>builder().addAll(this.valueSet).addAll(this.blockValueSet).build();
     }
 
     public Optional<NBTTagCompound> getCompound() {
+        resolveTileData();
         return this.compound == null ? Optional.<NBTTagCompound>empty() : Optional.of((NBTTagCompound) this.compound.copy());
     }
 
@@ -413,6 +456,7 @@ public SpongeBlockSnapshotBuilder createBuilder() {
             .extendedState(this.extendedState)
             .position(this.pos)
             .worldId(this.worldUniqueId);
+        resolveTileData();
         for (ImmutableDataManipulator<?, ?> manipulator : this.extraData) {
             builder.add((ImmutableDataManipulator) manipulator);
         }
@@ -460,24 +504,29 @@ public boolean equals(Object o) {
             return false;
         }
         SpongeBlockSnapshot that = (SpongeBlockSnapshot) o;
-        return this.updateFlag == that.updateFlag &&
-               Objects.equal(this.extendedState, that.extendedState) &&
-               Objects.equal(this.worldUniqueId, that.worldUniqueId) &&
-               Objects.equal(this.pos, that.pos) &&
-               Objects.equal(this.extraData, that.extraData) &&
-               Objects.equal(this.blockData, that.blockData) &&
+        if (this.updateFlag != that.updateFlag ||
+               !Objects.equal(this.extendedState, that.extendedState) ||
+               !Objects.equal(this.worldUniqueId, that.worldUniqueId) ||
+               !Objects.equal(this.pos, that.pos) ||
+               !Objects.equal(this.blockData, that.blockData)) {
+            return false;
+        }
+        resolveTileData();
+        that.resolveTileData();
+        return Objects.equal(this.extraData, that.extraData) &&
                Objects.equal(this.compound, that.compound);
     }
 
     @Override
     public int hashCode() {
+        resolveTileData();
         return Objects
             .hashCode(this.extendedState,
                 this.worldUniqueId,
                 this.pos,
-                this.extraData,
                 this.blockData,
                 this.updateFlag,
+                this.extraData,
                 this.compound);
     }
 }
@@ -70,6 +70,7 @@ public class SpongeBlockSnapshotBuilder extends AbstractDataBuilder<BlockSnapsho
     Vector3i coords;
     @Nullable List<ImmutableDataManipulator<?, ?>> manipulators;
     @Nullable NBTTagCompound compound;
+    @Nullable LazyTileEntityData tileData;
 
 
     public SpongeBlockSnapshotBuilder() {
@@ -141,6 +142,18 @@ public SpongeBlockSnapshotBuilder unsafeNbt(NBTTagCompound compound) {
         return this;
     }
 
+    /**
+     * Sets tile entity data that is serialized on first read instead of
+     * up front. Ignored if manipulators or nbt are set explicitly.
+     *
+     * @param tileData The lazily serialized tile entity data
+     * @return This builder, for chaining
+     */
+    public SpongeBlockSnapshotBuilder tileData(LazyTileEntityData tileData) {
+        this.tileData = checkNotNull(tileData, "tileData");
+        return this;
+    }
+
     @Override
     public SpongeBlockSnapshotBuilder add(DataManipulator<?, ?> manipulator) {
         return add((ImmutableDataManipulator<?, ?>) checkNotNull(manipulator, "manipulator").asImmutable());
@@ -186,9 +199,7 @@ public SpongeBlockSnapshotBuilder from(BlockSnapshot holder) {
         this.coords = holder.getPosition();
         this.manipulators = Lists.newArrayList(holder.getManipulators());
         if (holder instanceof SpongeBlockSnapshot) {
-            if (((SpongeBlockSnapshot) holder).compound != null) {
-                this.compound = (NBTTagCompound) ((SpongeBlockSnapshot) holder).compound.copy();
-            }
+            this.compound = ((SpongeBlockSnapshot) holder).getCompound().orElse(null);
         }
         return this;
     }
@@ -202,6 +213,7 @@ public SpongeBlockSnapshotBuilder reset() {
         this.coords = null;
         this.manipulators = null;
         this.compound = null;
+        this.tileData = null;
         return this;
     }
 
@@ -35,6 +35,7 @@
 import static org.spongepowered.api.command.args.GenericArguments.string;
 import static org.spongepowered.api.command.args.GenericArguments.world;
 
+import co.aikar.timings.RollingTickTimes;
 import co.aikar.timings.SpongeTimingsFactory;
 import co.aikar.timings.Timings;
 import net.minecraft.server.MinecraftServer;
@@ -67,9 +68,12 @@
 import org.spongepowered.common.config.type.DimensionConfig;
 import org.spongepowered.common.config.type.GlobalConfig;
 import org.spongepowered.common.config.type.WorldConfig;
+import org.spongepowered.common.data.ImmutableDataCachingUtil;
 import org.spongepowered.common.interfaces.IMixinMinecraftServer;
 import org.spongepowered.common.interfaces.world.IMixinWorld;
 import org.spongepowered.common.interfaces.world.IMixinWorldProvider;
+import org.spongepowered.common.scheduler.AsyncTaskPool;
+import org.spongepowered.common.scheduler.SpongeScheduler;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.DimensionManager;
 import org.spongepowered.common.world.SpongeDimensionType;
@@ -80,6 +84,7 @@
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @NonnullByDefault
@@ -105,6 +110,8 @@ public static CommandSpec getCommand() {
         nonFlagChildren.register(getHeapCommand(), "heap");
         nonFlagChildren.register(getPluginsCommand(), "plugins");
         nonFlagChildren.register(getTimingsCommand(), "timings");
+        nonFlagChildren.register(getSchedulerCommand(), "scheduler");
+        nonFlagChildren.register(getDataCacheCommand(), "datacache");
         flagChildren.register(getChunksCommand(), "chunks");
         flagChildren.register(getConfigCommand(), "config");
         flagChildren.register(getReloadCommand(), "reload"); // TODO: Should these two be subcommands of config, and what is now config be set?
@@ -121,6 +128,8 @@ INDENT, title("save"), LONG_INDENT, "Saves a global, dimension, or world config\
                         INDENT, title("version"), LONG_INDENT, "Prints current Sponge version\n",
                         INDENT, title("audit"), LONG_INDENT, "Audit mixin classes for implementation",
                         INDENT, title("plugins"), LONG_INDENT, "List currently installed plugins",
+                        INDENT, title("scheduler"), LONG_INDENT, "Provides async task pool metrics per plugin",
+                        INDENT, title("datacache"), LONG_INDENT, "Provides immutable data cache hit rates",
                         INDENT, title("tps"), LONG_INDENT, "Provides TPS (ticks per second) data for loaded worlds"))
                 .arguments(firstParsing(nonFlagChildren, flags()
                         .flag("-global", "g")
@@ -457,6 +466,16 @@ private static CommandCallable getTimingsCommand() {
                             return CommandResult.success();
                         })
                         .build(), "report", "paste")
+                .child(CommandSpec.builder()
+                        .executor((src, args) -> {
+                            if (!Timings.isTimingsEnabled()) {
+                                src.sendMessage(Text.of("Please enable timings by typing /sponge timings on"));
+                                return CommandResult.empty();
+                            }
+                            SpongeTimingsFactory.generateLocalReport(src);
+                            return CommandResult.success();
+                        })
+                        .build(), "export")
                 .child(CommandSpec.builder()
                         .executor((src, args) -> {
                             Timings.setTimingsEnabled(true);
@@ -534,6 +553,50 @@ private static CommandSpec getTpsCommand() {
                 .build();
     }
 
+    private static CommandSpec getSchedulerCommand() {
+        return CommandSpec.builder()
+                .permission("sponge.command.scheduler")
+                .description(Text.of("Provides async task pool metrics per plugin."))
+                .executor((src, args) -> {
+                    final AsyncTaskPool pool = SpongeScheduler.getInstance().getAsyncTaskPool();
+                    src.sendMessage(Text.of("Async pool threads: ", TextColors.LIGHT_PURPLE, pool.getActiveThreads(), TextColors.RESET,
+                            " active, ", pool.getPoolSize(), "/", pool.getMaximumPoolSize(), " started, queue: ", TextColors.RED,
+                            pool.getQueueDepth(), TextColors.RESET, "/", pool.getQueueCapacity()));
+                    for (AsyncTaskPool.PluginMetrics metrics : pool.getPluginMetrics().values()) {
+                        final long completed = Math.max(1, metrics.getCompleted());
+                        src.sendMessage(Text.of(INDENT, TextColors.DARK_GREEN, metrics.getPluginId(), TextColors.RESET,
+                                ": active ", metrics.getActive(), metrics.getLimit() > 0 ? "/" + metrics.getLimit() : "",
+                                ", backlog ", metrics.getBacklog(), ", done ", metrics.getCompleted(), ", rejected ", metrics.getRejected(),
+                                ", avg wait ", TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.format(metrics.getTotalWaitTime() / completed * 1.0e-6d),
+                                "ms", TextColors.RESET, ", avg run ", TextColors.RED,
+                                THREE_DECIMAL_DIGITS_FORMATTER.format(metrics.getTotalRunTime() / completed * 1.0e-6d), "ms"));
+                    }
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandSpec getDataCacheCommand() {
+        return CommandSpec.builder()
+                .permission("sponge.command.datacache")
+                .description(Text.of("Provides immutable data cache hit rates."))
+                .executor((src, args) -> {
+                    if (!SpongeImpl.getGlobalConfig().getConfig().getDebug().isDataCacheStats()) {
+                        src.sendMessage(Text.of("Please enable data-cache-stats in the debug category of global.conf"));
+                        return CommandResult.empty();
+                    }
+                    final List<ImmutableDataCachingUtil.CacheStats> stats = ImmutableDataCachingUtil.getStats();
+                    stats.sort((a, b) -> Long.compare(b.getHits() + b.getMisses(), a.getHits() + a.getMisses()));
+                    for (ImmutableDataCachingUtil.CacheStats cache : stats) {
+                        src.sendMessage(Text.of(INDENT, TextColors.DARK_GREEN, cache.getName(), TextColors.RESET,
+                                ": size ", cache.getSize(), ", hits ", cache.getHits(), ", misses ", cache.getMisses(),
+                                ", hit rate ", TextColors.LIGHT_PURPLE, THREE_DECIMAL_DIGITS_FORMATTER.format(cache.getHitRate() * 100), "%"));
+                    }
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
     private static void printWorldTickTime(CommandSource src, World world) {
         final long[] worldTickTimes = ((IMixinMinecraftServer) MinecraftServer.getServer()).
                 getWorldTickTimes().get(((WorldServer) world).provider.getDimensionId());
@@ -543,6 +606,15 @@ private static void printWorldTickTime(CommandSource src, World world) {
                 ((WorldServer) world).provider.getDimensionId(), ") TPS: ", TextColors.LIGHT_PURPLE,
                 THREE_DECIMAL_DIGITS_FORMATTER.format(worldTps), TextColors.RESET,  ", Mean: ", TextColors.RED,
                 THREE_DECIMAL_DIGITS_FORMATTER.format(worldMeanTickTime), "ms"));
+        final RollingTickTimes tickTimes = ((IMixinWorld) world).getTimingsHandler().tickTimes;
+        for (int minutes : new int[] {1, 5, 15}) {
+            final long[] percentiles = tickTimes.getPercentiles(minutes);
+            src.sendMessage(Text.of(INDENT, minutes, "m p50/p95/p99/max: ", TextColors.RED,
+                    THREE_DECIMAL_DIGITS_FORMATTER.format(percentiles[0] * 1.0e-6d), "/",
+                    THREE_DECIMAL_DIGITS_FORMATTER.format(percentiles[1] * 1.0e-6d), "/",
+                    THREE_DECIMAL_DIGITS_FORMATTER.format(percentiles[2] * 1.0e-6d), "/",
+                    THREE_DECIMAL_DIGITS_FORMATTER.format(percentiles[3] * 1.0e-6d), "ms"));
+        }
     }
 
     private static Long mean(long[] values) {
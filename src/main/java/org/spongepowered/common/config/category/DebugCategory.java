@@ -38,6 +38,8 @@ public class DebugCategory extends ConfigCategory {
     private boolean dumpHeapOnDeadlock = false;
     @Setting(value = "dump-threads-on-warn", comment = "Dump the server thread on deadlock warning")
     private boolean dumpThreadsOnWarn = false;
+    @Setting(value = "data-cache-stats", comment = "Record hit and miss counts of the immutable data caches, shown by '/sponge datacache'")
+    private boolean dataCacheStats = false;
 
     public boolean isEnableThreadContentionMonitoring() {
         return this.enableThreadContentionMonitoring;
@@ -70,4 +72,12 @@ public boolean dumpThreadsOnWarn() {
     public void setDumpThreadsOnWarn(boolean dumpThreadsOnWarn) {
         this.dumpThreadsOnWarn = dumpThreadsOnWarn;
     }
-}
\ No newline at end of file
+
+    public boolean isDataCacheStats() {
+        return this.dataCacheStats;
+    }
+
+    public void setDataCacheStats(boolean dataCacheStats) {
+        this.dataCacheStats = dataCacheStats;
+    }
+}
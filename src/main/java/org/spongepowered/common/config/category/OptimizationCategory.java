@@ -39,6 +39,10 @@ public class OptimizationCategory extends ConfigCategory {
     @Setting(value = "chunk-map-caching", comment = "Caches chunks internally for faster returns when querying at various positions")
     private boolean useCachedChunkMap = true;
 
+    @Setting(value = "coalesce-collide-entity-events", comment = "Fires a single CollideEntityEvent for each entity query in a world instead of one for every chunk the query touches. "
+            + "\nThe event then covers every entity found by the query.")
+    private boolean coalesceCollideEntityEvents = false;
+
     public boolean useBlockStateLookupPatch() {
         return this.blockStateLookup;
     }
@@ -50,4 +54,8 @@ public boolean useIgnoreUloadedChunkLightingPatch() {
     public boolean isUseCachedChunkMap() {
         return this.useCachedChunkMap;
     }
+
+    public boolean useCoalescedCollideEntityEvents() {
+        return this.coalesceCollideEntityEvents;
+    }
 }
\ No newline at end of file
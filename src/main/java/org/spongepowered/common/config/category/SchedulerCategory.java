@@ -0,0 +1,74 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigSerializable
+public class SchedulerCategory extends ConfigCategory {
+
+    @Setting(value = "async-max-pool-size", comment = "The maximum number of async worker threads. A new thread is started for each task\n"
+            + "until this limit is reached, idle threads are stopped after a minute.")
+    private int asyncMaxPoolSize = Math.max(16, Runtime.getRuntime().availableProcessors() * 4);
+
+    @Setting(value = "async-queue-size", comment = "The maximum number of async tasks waiting for a worker thread once all threads are busy.")
+    private int asyncQueueSize = 10000;
+
+    @Setting(value = "async-rejection-policy", comment = "What to do with an async task once the pool and queue are full.\n"
+            + "CALLER_RUNS runs it on the submitting thread. Tasks submitted from the server thread or by the scheduler itself are run by\n"
+            + "the async scheduler thread instead, and are dropped if as many are already waiting as the queue holds.\n"
+            + "ABORT logs or fails the submission and DISCARD drops it. Futures of dropped tasks are always completed exceptionally.")
+    private RejectionPolicy asyncRejectionPolicy = RejectionPolicy.CALLER_RUNS;
+
+    @Setting(value = "async-plugin-limits", comment = "The maximum number of async tasks a plugin may run at the same time, keyed by plugin id.\n"
+            + "Tasks above the limit wait in a per plugin backlog, which is as large as the async queue. Plugins not listed are unlimited.")
+    private Map<String, Integer> asyncPluginLimits = new HashMap<>();
+
+    public int getAsyncMaxPoolSize() {
+        return this.asyncMaxPoolSize;
+    }
+
+    public int getAsyncQueueSize() {
+        return this.asyncQueueSize;
+    }
+
+    public RejectionPolicy getAsyncRejectionPolicy() {
+        return this.asyncRejectionPolicy;
+    }
+
+    public Map<String, Integer> getAsyncPluginLimits() {
+        return this.asyncPluginLimits;
+    }
+
+    public enum RejectionPolicy {
+        CALLER_RUNS,
+        ABORT,
+        DISCARD
+    }
+}
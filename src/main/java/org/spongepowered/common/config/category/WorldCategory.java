@@ -85,6 +85,11 @@ public class WorldCategory extends ConfigCategory {
                                                           + "\nDisabled by default.")
     private int chunkGCLoadThreshold = 0;
 
+    @Setting(value = "chunk-gc-scan-budget", comment = "The maximum number of loaded chunks checked by the chunk gc in a single tick. "
+                                                       + "\nA cleanup is spread over as many ticks as needed to check every chunk. "
+                                                       + "\nSet to 0 to check every chunk in one tick. (Default: 1000).")
+    private int chunkGCScanBudget = 1000;
+
     @Setting(value = "item-merge-radius", comment = "The defined merge radius for Item entities such that when two items are"
                                                     + "\nwithin the defined radius of each other, they will attempt to merge. Usually,"
                                                     + "\nthe default radius is set to 0.5 in Vanilla, however, for performance reasons"
@@ -189,6 +194,10 @@ public int getChunkLoadThreadhold() {
         return this.chunkGCLoadThreshold;
     }
 
+    public int getChunkGCScanBudget() {
+        return this.chunkGCScanBudget;
+    }
+
     public int getMaxChunkUnloads() {
         return this.maxChunkUnloads;
     }
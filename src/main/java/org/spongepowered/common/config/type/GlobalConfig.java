@@ -36,6 +36,7 @@
 import org.spongepowered.common.config.category.GlobalWorldCategory;
 import org.spongepowered.common.config.category.ModuleCategory;
 import org.spongepowered.common.config.category.OptimizationCategory;
+import org.spongepowered.common.config.category.SchedulerCategory;
 import org.spongepowered.common.config.category.SqlCategory;
 import org.spongepowered.common.util.IpSet;
 
@@ -69,6 +70,9 @@ public class GlobalConfig extends ConfigBase {
     @Setting(value = "optimizations")
     private OptimizationCategory optimizations = new OptimizationCategory();
 
+    @Setting(value = "scheduler", comment = "Configuration options related to the thread pool running async scheduler tasks")
+    private SchedulerCategory scheduler = new SchedulerCategory();
+
     @Setting
     protected GlobalWorldCategory world = new GlobalWorldCategory();
 
@@ -111,6 +115,10 @@ public OptimizationCategory getOptimizations() {
         return this.optimizations;
     }
 
+    public SchedulerCategory getScheduler() {
+        return this.scheduler;
+    }
+
     public Predicate<InetAddress> getIpSet(String name) {
         return this.ipSets.containsKey(name) ? Predicates.and(this.ipSets.get(name)) : null;
     }
@@ -57,6 +57,19 @@
 
     boolean supports(EntityType entityType);
 
+    /**
+     * Checks if this processor may support {@link DataHolder}s of the given
+     * class. Returning {@code false} promises that {@link #supports(DataHolder)}
+     * is {@code false} for every instance of the class, which allows the
+     * processor to be skipped for that class entirely.
+     *
+     * @param holderClass The class of the data holder
+     * @return False if no instance of the class can be supported
+     */
+    default boolean isApplicableTo(Class<?> holderClass) {
+        return true;
+    }
+
     /**
      * Attempts to get the given {@link DataManipulator} of type {@code T} if
      * and only if the manipulator's required data exists from the
@@ -28,7 +28,7 @@
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import org.spongepowered.api.CatalogType;
+import com.google.common.collect.ImmutableList;
 import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.value.BaseValue;
@@ -36,27 +36,33 @@
 import org.spongepowered.common.SpongeImpl;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
 
 public final class ImmutableDataCachingUtil {
 
     private ImmutableDataCachingUtil() {}
 
     public static final int CACHE_LIMIT_FOR_INDIVIDUAL_TYPE = 100;
-    public static final int MANIPULATOR_CACHE_LIMIT = 100000;
-    public static final int VALUE_CACHE_LIMIT = 100000;
+    public static final int MANIPULATOR_CACHE_LIMIT_PER_TYPE = 10000;
+    public static final int VALUE_CACHE_LIMIT_PER_KEY = 10000;
 
-    private static final Cache<String, ImmutableDataManipulator<?, ?>> manipulatorCache = CacheBuilder.newBuilder()
-        .maximumSize(MANIPULATOR_CACHE_LIMIT)
-        .concurrencyLevel(4)
-        .build();
+    // The key used for manipulators constructed without arguments
+    private static final Object NO_ARGS = new Object();
 
-    private static final Cache<String, ImmutableValue<?>> valueCache = CacheBuilder.newBuilder()
-        .concurrencyLevel(4)
-        .maximumSize(VALUE_CACHE_LIMIT)
-        .build();
+    private static final ConcurrentMap<Class<?>, TypeCache<ImmutableDataManipulator<?, ?>>> manipulatorCaches = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, ConcurrentMap<Key<?>, TypeCache<ImmutableValue<?>>>> valueCaches = new ConcurrentHashMap<>();
 
     /**
      * Retrieves a basic manipulator from {@link Cache}. If the {@link Cache}
@@ -75,11 +81,18 @@ private ImmutableDataCachingUtil() {}
      */
     @SuppressWarnings("unchecked")
     public static <T extends ImmutableDataManipulator<?, ?>> T getManipulator(final Class<T> immutableClass, final Object... args) {
-        final String key = getKey(immutableClass, args);
+        TypeCache<ImmutableDataManipulator<?, ?>> cache = manipulatorCaches.get(immutableClass);
+        if (cache == null) {
+            cache = manipulatorCaches.computeIfAbsent(immutableClass, key -> new TypeCache<>(key.getName(), MANIPULATOR_CACHE_LIMIT_PER_TYPE));
+        }
+        final Object key = args.length == 0 ? NO_ARGS : args.length == 1 ? args[0] : new ArgumentsKey(args);
+        final ImmutableDataManipulator<?, ?> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return (T) cached;
+        }
         // We can't really use the generic typing here because it's complicated...
         try {
-            // Let's get the key
-            return (T) ImmutableDataCachingUtil.manipulatorCache.get(key, (Callable<ImmutableDataManipulator<?, ?>>) () -> {
+            return (T) cache.get(snapshot(key), () -> {
                     try {
                         return createUnsafeInstance(immutableClass, args);
                     } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
@@ -97,9 +110,21 @@ private ImmutableDataCachingUtil() {}
     @SuppressWarnings("unchecked")
     public static <E, V extends ImmutableValue<?>, T extends ImmutableValue<E>> T getValue(final Class<V> valueClass,
             final Key<? extends BaseValue<E>> usedKey, final E defaultArg, final E arg, final Object... extraArgs) {
-        final String key = getKey(valueClass, usedKey.getQuery().asString('.'), arg.getClass(), arg);
+        ConcurrentMap<Key<?>, TypeCache<ImmutableValue<?>>> keyCaches = valueCaches.get(valueClass);
+        if (keyCaches == null) {
+            keyCaches = valueCaches.computeIfAbsent(valueClass, key -> new ConcurrentHashMap<>());
+        }
+        TypeCache<ImmutableValue<?>> cache = keyCaches.get(usedKey);
+        if (cache == null) {
+            cache = keyCaches.computeIfAbsent(usedKey,
+                    key -> new TypeCache<>(valueClass.getName() + "[" + key.getQuery().asString('.') + "]", VALUE_CACHE_LIMIT_PER_KEY));
+        }
+        final ImmutableValue<?> cached = cache.getIfPresent(arg);
+        if (cached != null) {
+            return (T) cached;
+        }
         try {
-            return (T) ImmutableDataCachingUtil.valueCache.get(key, (Callable<ImmutableValue<?>>) () -> {
+            return (T) cache.get(snapshot(arg), () -> {
                     try {
                         if (extraArgs == null || extraArgs.length == 0) {
                             return createUnsafeInstance(valueClass, usedKey, defaultArg, arg);
@@ -116,15 +141,139 @@ public static <E, V extends ImmutableValue<?>, T extends ImmutableValue<E>> T ge
         }
     }
 
-    private static String getKey(final Class<?> immutableClass, final Object... args) {
-        final StringBuilder builder = new StringBuilder(immutableClass.getCanonicalName() + ":");
-        for (Object object : args) {
-            if (object instanceof CatalogType) {
-                builder.append("{").append(((CatalogType) object).getId()).append("}");
-            } else {
-                builder.append("{").append(object.toString()).append("}");
+    /**
+     * Gets the hit and miss statistics of every manipulator and value cache.
+     * Hits and misses are only counted while {@code debug.data-cache-stats}
+     * is enabled.
+     *
+     * @return The statistics, one entry per cache
+     */
+    public static List<CacheStats> getStats() {
+        final List<CacheStats> stats = new ArrayList<>();
+        for (TypeCache<?> cache : manipulatorCaches.values()) {
+            stats.add(cache.getStats());
+        }
+        for (Map<Key<?>, TypeCache<ImmutableValue<?>>> keyCaches : valueCaches.values()) {
+            for (TypeCache<?> cache : keyCaches.values()) {
+                stats.add(cache.getStats());
             }
         }
-        return builder.toString();
+        return stats;
+    }
+
+    /**
+     * Copies mutable collections used as keys so that later changes by the
+     * caller cannot corrupt the cache. Only done when an entry is stored.
+     */
+    private static Object snapshot(Object key) {
+        if (key instanceof ArgumentsKey) {
+            final Object[] args = ((ArgumentsKey) key).args;
+            final Object[] copy = new Object[args.length];
+            for (int i = 0; i < args.length; i++) {
+                copy[i] = snapshot(args[i]);
+            }
+            return new ArgumentsKey(copy);
+        } else if (key instanceof ImmutableList) {
+            return key;
+        } else if (key instanceof List) {
+            return Collections.unmodifiableList(new ArrayList<>((List<?>) key));
+        } else if (key instanceof Set) {
+            return Collections.unmodifiableSet(new HashSet<>((Set<?>) key));
+        } else if (key instanceof Map) {
+            return Collections.unmodifiableMap(new HashMap<>((Map<?, ?>) key));
+        }
+        return key;
+    }
+
+    private static boolean isRecordingStats() {
+        return SpongeImpl.getGlobalConfig().getConfig().getDebug().isDataCacheStats();
+    }
+
+    private static final class ArgumentsKey {
+
+        final Object[] args;
+        private final int hashCode;
+
+        ArgumentsKey(Object[] args) {
+            this.args = args;
+            this.hashCode = Arrays.hashCode(args);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return this == obj || obj instanceof ArgumentsKey && this.hashCode == obj.hashCode() && Arrays.equals(this.args, ((ArgumentsKey) obj).args);
+        }
+    }
+
+    private static final class TypeCache<V> {
+
+        private final String name;
+        private final Cache<Object, V> cache;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        TypeCache(String name, int limit) {
+            this.name = name;
+            this.cache = CacheBuilder.newBuilder()
+                    .maximumSize(limit)
+                    .build();
+        }
+
+        V getIfPresent(Object key) {
+            final V value = this.cache.getIfPresent(key);
+            if (isRecordingStats()) {
+                (value == null ? this.misses : this.hits).increment();
+            }
+            return value;
+        }
+
+        V get(Object key, Callable<? extends V> loader) throws ExecutionException {
+            return this.cache.get(key, loader);
+        }
+
+        CacheStats getStats() {
+            return new CacheStats(this.name, this.cache.size(), this.hits.sum(), this.misses.sum());
+        }
+    }
+
+    public static final class CacheStats {
+
+        private final String name;
+        private final long size;
+        private final long hits;
+        private final long misses;
+
+        CacheStats(String name, long size, long hits, long misses) {
+            this.name = name;
+            this.size = size;
+            this.hits = hits;
+            this.misses = misses;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public long getSize() {
+            return this.size;
+        }
+
+        public long getHits() {
+            return this.hits;
+        }
+
+        public long getMisses() {
+            return this.misses;
+        }
+
+        public double getHitRate() {
+            final long total = this.hits + this.misses;
+            return total == 0 ? 0 : (double) this.hits / total;
+        }
     }
 }
@@ -139,6 +139,20 @@
      */
     boolean supports(ValueContainer<?> container);
 
+    /**
+     * Checks if this processor may support {@link ValueContainer}s of the
+     * given class. Returning {@code false} promises that
+     * {@link #supports(ValueContainer)} is {@code false} for every instance
+     * of the class, which allows the processor to be skipped for that class
+     * entirely.
+     *
+     * @param containerClass The class of the value container
+     * @return False if no instance of the class can be supported
+     */
+    default boolean isApplicableTo(Class<?> containerClass) {
+        return true;
+    }
+
     /**
      * Offers the provided {@link BaseValue} containing a value of the
      * appropriate value type of this {@link ValueProcessor} to offer
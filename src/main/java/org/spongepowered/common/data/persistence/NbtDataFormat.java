@@ -24,8 +24,6 @@
  */
 package org.spongepowered.common.data.persistence;
 
-import net.minecraft.nbt.CompressedStreamTools;
-import net.minecraft.nbt.NBTTagCompound;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.data.DataView;
 import org.spongepowered.api.data.persistence.DataFormat;
@@ -52,20 +50,18 @@ public DataContainer readFrom(InputStream input) throws InvalidDataFormatExcepti
         } else {
             dis = new DataInputStream(input);
         }
-        NBTTagCompound tag = CompressedStreamTools.read(dis);
-        return NbtTranslator.getInstance().translateFrom(tag);
+        return NbtStreamTranslator.read(dis);
     }
 
     @Override
     public void writeTo(OutputStream output, DataView data) throws IOException {
-        NBTTagCompound tag = NbtTranslator.getInstance().translateData(data);
         DataOutputStream dos;
         if (output instanceof DataOutputStream) {
             dos = (DataOutputStream) output;
         } else {
             dos = new DataOutputStream(output);
         }
-        CompressedStreamTools.write(tag, dos);
+        NbtStreamTranslator.write(data, dos);
     }
 
 }
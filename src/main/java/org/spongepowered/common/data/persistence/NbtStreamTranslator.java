@@ -0,0 +1,327 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.Lists;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.MemoryDataContainer;
+import org.spongepowered.common.data.util.NbtDataUtil;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes {@link DataView}s directly to the NBT binary format and reads them
+ * back, without building an intermediate {@code NBTTagCompound}.
+ *
+ * <p>The output is the same as translating with {@link NbtTranslator} and
+ * writing the compound with {@code CompressedStreamTools}, and reading is
+ * the reverse. Arrays are written straight from the view without being
+ * copied.</p>
+ *
+ * <p>This is only a win where the data ends up as bytes. Where Minecraft
+ * needs an {@code NBTTagCompound}, such as for entities, items and tile
+ * entities, {@link NbtTranslator} builds it directly; streaming would
+ * write the data and parse it again.</p>
+ */
+public final class NbtStreamTranslator {
+
+    // Same limit as NBTTagCompound#read
+    private static final int MAX_DEPTH = 512;
+
+    private NbtStreamTranslator() {
+    }
+
+    /**
+     * Writes the view as a root compound tag.
+     *
+     * @param view The view to write
+     * @param output The output to write to
+     * @throws IOException If the output could not be written to
+     */
+    public static void write(DataView view, DataOutput output) throws IOException {
+        checkNotNull(view, "view");
+        checkNotNull(output, "output");
+        output.writeByte(NbtDataUtil.TAG_COMPOUND);
+        output.writeUTF("");
+        writeView(view, output);
+    }
+
+    /**
+     * Reads a root compound tag into a new container.
+     *
+     * @param input The input to read from
+     * @return The read container
+     * @throws IOException If the input could not be read or is not a
+     *     compound tag
+     */
+    public static DataContainer read(DataInput input) throws IOException {
+        checkNotNull(input, "input");
+        if (input.readByte() != NbtDataUtil.TAG_COMPOUND) {
+            throw new IOException("Root tag must be a named compound tag");
+        }
+        input.readUTF();
+        DataContainer container = new MemoryDataContainer();
+        readCompound(input, container, 0);
+        return container;
+    }
+
+    private static void writeView(DataView view, DataOutput output) throws IOException {
+        for (Map.Entry<DataQuery, Object> entry : view.getValues(false).entrySet()) {
+            final Object value = entry.getValue();
+            final String key = asKey(entry.getKey());
+            if (value instanceof Boolean) {
+                output.writeByte(NbtDataUtil.TAG_BYTE);
+                output.writeUTF(key + NbtTranslator.BOOLEAN_IDENTIFER);
+                output.writeByte((Boolean) value ? 1 : 0);
+            } else {
+                writeNamed(key, value, output);
+            }
+        }
+        output.writeByte(NbtDataUtil.TAG_END);
+    }
+
+    private static String asKey(DataQuery query) {
+        final List<String> parts = query.getParts();
+        return parts.size() == 1 ? parts.get(0) : query.asString('.');
+    }
+
+    private static void writeNamed(String key, Object value, DataOutput output) throws IOException {
+        output.writeByte(getType(value));
+        output.writeUTF(key);
+        writePayload(value, output);
+    }
+
+    /**
+     * Gets the NBT type a value is translated to, following
+     * {@code NbtTranslator#getBaseFromObject}.
+     */
+    private static byte getType(Object value) {
+        checkNotNull(value);
+        if (value instanceof Boolean || value instanceof Byte) {
+            return NbtDataUtil.TAG_BYTE;
+        } else if (value instanceof Short) {
+            return NbtDataUtil.TAG_SHORT;
+        } else if (value instanceof Integer) {
+            return NbtDataUtil.TAG_INT;
+        } else if (value instanceof Long) {
+            return NbtDataUtil.TAG_LONG;
+        } else if (value instanceof Float) {
+            return NbtDataUtil.TAG_FLOAT;
+        } else if (value instanceof Double) {
+            return NbtDataUtil.TAG_DOUBLE;
+        } else if (value instanceof String) {
+            return NbtDataUtil.TAG_STRING;
+        } else if (value instanceof byte[] || value instanceof Byte[]) {
+            return NbtDataUtil.TAG_BYTE_ARRAY;
+        } else if (value instanceof int[] || value instanceof Integer[]) {
+            return NbtDataUtil.TAG_INT_ARRAY;
+        } else if (value instanceof List) {
+            return NbtDataUtil.TAG_LIST;
+        } else if (value instanceof Map || value instanceof DataSerializable || value instanceof DataView) {
+            return NbtDataUtil.TAG_COMPOUND;
+        }
+        throw new IllegalArgumentException("Unable to translate object to NBTBase: " + value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writePayload(Object value, DataOutput output) throws IOException {
+        if (value instanceof Boolean) {
+            output.writeByte((Boolean) value ? 1 : 0);
+        } else if (value instanceof Byte) {
+            output.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            output.writeShort((Short) value);
+        } else if (value instanceof Integer) {
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            output.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            output.writeDouble((Double) value);
+        } else if (value instanceof String) {
+            output.writeUTF((String) value);
+        } else if (value instanceof byte[]) {
+            final byte[] array = (byte[]) value;
+            output.writeInt(array.length);
+            output.write(array);
+        } else if (value instanceof Byte[]) {
+            final Byte[] array = (Byte[]) value;
+            output.writeInt(array.length);
+            for (Byte data : array) {
+                output.writeByte(data);
+            }
+        } else if (value instanceof int[]) {
+            final int[] array = (int[]) value;
+            output.writeInt(array.length);
+            for (int data : array) {
+                output.writeInt(data);
+            }
+        } else if (value instanceof Integer[]) {
+            final Integer[] array = (Integer[]) value;
+            output.writeInt(array.length);
+            for (Integer data : array) {
+                output.writeInt(data);
+            }
+        } else if (value instanceof List) {
+            writeList((List<Object>) value, output);
+        } else if (value instanceof Map) {
+            for (Map.Entry<Object, Object> entry : ((Map<Object, Object>) value).entrySet()) {
+                if (entry.getKey() instanceof DataQuery) {
+                    if (entry.getValue() instanceof Boolean) {
+                        output.writeByte(NbtDataUtil.TAG_BYTE);
+                        output.writeUTF(((DataQuery) entry.getKey()).asString('.') + NbtTranslator.BOOLEAN_IDENTIFER);
+                        output.writeByte((Boolean) entry.getValue() ? 1 : 0);
+                    } else {
+                        writeNamed(((DataQuery) entry.getKey()).asString('.'), entry.getValue(), output);
+                    }
+                } else {
+                    writeNamed(entry.getKey().toString(), entry.getValue(), output);
+                }
+            }
+            output.writeByte(NbtDataUtil.TAG_END);
+        } else if (value instanceof DataSerializable) {
+            writeView(((DataSerializable) value).toContainer(), output);
+        } else if (value instanceof DataView) {
+            writeView((DataView) value, output);
+        } else {
+            throw new IllegalArgumentException("Unable to translate object to NBTBase: " + value);
+        }
+    }
+
+    private static void writeList(List<Object> list, DataOutput output) throws IOException {
+        // Like NBTTagList#appendTag, elements that don't match the type of the first are dropped
+        byte type = NbtDataUtil.TAG_END;
+        int count = 0;
+        for (Object element : list) {
+            final byte elementType = getType(element);
+            if (type == NbtDataUtil.TAG_END) {
+                type = elementType;
+            }
+            if (elementType == type) {
+                count++;
+            }
+        }
+        output.writeByte(type);
+        output.writeInt(count);
+        for (Object element : list) {
+            if (getType(element) == type) {
+                writePayload(element, output);
+            }
+        }
+    }
+
+    private static void readCompound(DataInput input, DataView view, int depth) throws IOException {
+        checkDepth(depth);
+        byte type;
+        while ((type = input.readByte()) != NbtDataUtil.TAG_END) {
+            final String key = input.readUTF();
+            if (key.isEmpty()) {
+                throw new IllegalArgumentException("NBT keys must not be empty");
+            }
+            switch (type) {
+                case NbtDataUtil.TAG_BYTE:
+                    if (key.contains(NbtTranslator.BOOLEAN_IDENTIFER)) {
+                        view.set(of(key.replace(NbtTranslator.BOOLEAN_IDENTIFER, "")), input.readByte() == 1);
+                    } else {
+                        view.set(of(key), input.readByte());
+                    }
+                    break;
+                case NbtDataUtil.TAG_COMPOUND:
+                    // Read straight into the child view rather than copying a container in
+                    readCompound(input, view.createView(of(key)), depth + 1);
+                    break;
+                default:
+                    view.set(of(key), readPayload(input, type, depth + 1));
+                    break;
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object readPayload(DataInput input, byte type, int depth) throws IOException {
+        switch (type) {
+            case NbtDataUtil.TAG_BYTE:
+                return input.readByte();
+            case NbtDataUtil.TAG_SHORT:
+                return input.readShort();
+            case NbtDataUtil.TAG_INT:
+                return input.readInt();
+            case NbtDataUtil.TAG_LONG:
+                return input.readLong();
+            case NbtDataUtil.TAG_FLOAT:
+                return input.readFloat();
+            case NbtDataUtil.TAG_DOUBLE:
+                return input.readDouble();
+            case NbtDataUtil.TAG_BYTE_ARRAY: {
+                final byte[] array = new byte[input.readInt()];
+                input.readFully(array);
+                return array;
+            }
+            case NbtDataUtil.TAG_STRING:
+                return input.readUTF();
+            case NbtDataUtil.TAG_LIST: {
+                checkDepth(depth);
+                final byte listType = input.readByte();
+                final int count = input.readInt();
+                final List list = Lists.newArrayListWithCapacity(count);
+                for (int i = 0; i < count; i++) {
+                    list.add(readPayload(input, listType, depth + 1));
+                }
+                return list;
+            }
+            case NbtDataUtil.TAG_COMPOUND: {
+                final DataContainer container = new MemoryDataContainer();
+                readCompound(input, container, depth);
+                return container;
+            }
+            case NbtDataUtil.TAG_INT_ARRAY: {
+                final int[] array = new int[input.readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = input.readInt();
+                }
+                return array;
+            }
+            default:
+                throw new IOException("Unknown NBT type " + type);
+        }
+    }
+
+    private static void checkDepth(int depth) {
+        if (depth > MAX_DEPTH) {
+            throw new RuntimeException("Tried to read NBT tag with too high complexity, depth > " + MAX_DEPTH);
+        }
+    }
+}
@@ -83,7 +83,7 @@ private static void containerToCompound(final DataView container, final NBTTagCo
             String key = entry.getKey().asString('.');
             if (value instanceof DataView) {
                 NBTTagCompound inner = new NBTTagCompound();
-                containerToCompound(container.getView(entry.getKey()).get(), inner);
+                containerToCompound((DataView) value, inner);
                 compound.setTag(key, inner);
             } else if (value instanceof Boolean) {
                 compound.setTag(key + BOOLEAN_IDENTIFER, new NBTTagByte(((Boolean) value) ? (byte) 1 : 0));
@@ -113,6 +113,7 @@ private static NBTBase getBaseFromObject(Object value) {
         } else if (value instanceof String) {
             return new NBTTagString((String) value);
         } else if (value.getClass().isArray()) {
+            // The tags keep the arrays they are given, so they are copied to not share them with the view
             if (value instanceof byte[]) {
                 byte[] array = ArrayUtils.clone((byte[]) value);
                 return new NBTTagByteArray(array);
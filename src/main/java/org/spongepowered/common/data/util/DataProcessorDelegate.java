@@ -42,10 +42,14 @@
 import org.spongepowered.common.data.DataProcessor;
 
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public final class DataProcessorDelegate<M extends DataManipulator<M, I>, I extends ImmutableDataManipulator<I, M>> implements DataProcessor<M, I> {
 
     private final ImmutableList<Tuple<DataProcessor<M, I>, Timing>> processors;
+    // The processors that may support each holder class, in priority order
+    private final ConcurrentMap<Class<?>, ImmutableList<Tuple<DataProcessor<M, I>, Timing>>> processorsByClass = new ConcurrentHashMap<>();
 
     public DataProcessorDelegate(ImmutableList<DataProcessor<M, I>> processors) {
         ImmutableList.Builder<Tuple<DataProcessor<M, I>, Timing>> builder = ImmutableList.builder();
@@ -55,26 +59,55 @@ public DataProcessorDelegate(ImmutableList<DataProcessor<M, I>> processors) {
         this.processors = builder.build();
     }
 
+    private ImmutableList<Tuple<DataProcessor<M, I>, Timing>> getProcessors(DataHolder dataHolder) {
+        final Class<?> holderClass = dataHolder.getClass();
+        ImmutableList<Tuple<DataProcessor<M, I>, Timing>> processors = this.processorsByClass.get(holderClass);
+        if (processors == null) {
+            final ImmutableList.Builder<Tuple<DataProcessor<M, I>, Timing>> builder = ImmutableList.builder();
+            for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+                if (tuple.getFirst().isApplicableTo(holderClass)) {
+                    builder.add(tuple);
+                }
+            }
+            processors = builder.build();
+            this.processorsByClass.put(holderClass, processors);
+        }
+        return processors;
+    }
+
+    private static boolean isMainThread() {
+        return MinecraftServer.getServer().isCallingFromMinecraftThread();
+    }
+
     @Override
     public int getPriority() {
         return Integer.MAX_VALUE;
     }
 
     @Override
-    public boolean supports(DataHolder dataHolder) {
+    public boolean isApplicableTo(Class<?> holderClass) {
         for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
-            if (MinecraftServer.getServer().isCallingFromMinecraftThread()) {
-                tuple.getSecond().startTiming();
-            }
-            if (tuple.getFirst().supports(dataHolder)) {
-                if (MinecraftServer.getServer().isCallingFromMinecraftThread()) {
-                    tuple.getSecond().stopTiming();
-                }
+            if (tuple.getFirst().isApplicableTo(holderClass)) {
                 return true;
             }
-            if (MinecraftServer.getServer().isCallingFromMinecraftThread()) {
+        }
+        return false;
+    }
+
+    @Override
+    public boolean supports(DataHolder dataHolder) {
+        final boolean timed = isMainThread();
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder)) {
+            if (timed) {
+                tuple.getSecond().startTiming();
+            }
+            final boolean supports = tuple.getFirst().supports(dataHolder);
+            if (timed) {
                 tuple.getSecond().stopTiming();
             }
+            if (supports) {
+                return true;
+            }
         }
         return false;
     }
@@ -86,59 +119,50 @@ public boolean supports(EntityType entityType) {
 
     @Override
     public Optional<M> from(DataHolder dataHolder) {
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
-            if (MinecraftServer.getServer().isCallingFromMinecraftThread()) {
+        final boolean timed = isMainThread();
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder)) {
+            if (timed) {
                 tuple.getSecond().startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
-                final Optional<M> optional = tuple.getFirst().from(dataHolder);
-                if (MinecraftServer.getServer().isCallingFromMinecraftThread()) {
-                    tuple.getSecond().stopTiming();
-                }
-                if (optional.isPresent()) {
-                    return optional;
-                }
-            }
-
-            if (MinecraftServer.getServer().isCallingFromMinecraftThread()) {
+            final Optional<M> optional = tuple.getFirst().supports(dataHolder) ? tuple.getFirst().from(dataHolder) : Optional.empty();
+            if (timed) {
                 tuple.getSecond().stopTiming();
             }
-
+            if (optional.isPresent()) {
+                return optional;
+            }
         }
         return Optional.empty();
     }
 
     @Override
     public Optional<M> fill(DataHolder dataHolder, M manipulator, MergeFunction overlap) {
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
-            if (MinecraftServer.getServer().isCallingFromMinecraftThread()) {
+        final boolean timed = isMainThread();
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder)) {
+            if (timed) {
                 tuple.getSecond().startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
-                final Optional<M> optional = tuple.getFirst().fill(dataHolder, manipulator, overlap);
-                if (MinecraftServer.getServer().isCallingFromMinecraftThread()) {
-                    tuple.getSecond().stopTiming();
-                }
-                if (optional.isPresent()) {
-                    return optional;
-                }
-            }
-            if (MinecraftServer.getServer().isCallingFromMinecraftThread()) {
+            final Optional<M> optional = tuple.getFirst().supports(dataHolder) ? tuple.getFirst().fill(dataHolder, manipulator, overlap)
+                    : Optional.empty();
+            if (timed) {
                 tuple.getSecond().stopTiming();
             }
-
+            if (optional.isPresent()) {
+                return optional;
+            }
         }
         return Optional.empty();
     }
 
     @Override
     public Optional<M> fill(DataContainer container, M m) {
+        final boolean timed = isMainThread();
         for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
-            if (MinecraftServer.getServer().isCallingFromMinecraftThread()) {
+            if (timed) {
                 tuple.getSecond().startTiming();
             }
             final Optional<M> optional = tuple.getFirst().fill(container, m);
-            if (MinecraftServer.getServer().isCallingFromMinecraftThread()) {
+            if (timed) {
                 tuple.getSecond().stopTiming();
             }
             if (optional.isPresent()) {
@@ -150,34 +174,31 @@ public Optional<M> fill(DataContainer container, M m) {
 
     @Override
     public DataTransactionResult set(DataHolder dataHolder, M manipulator, MergeFunction function) {
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
-            if (MinecraftServer.getServer().isCallingFromMinecraftThread()) {
+        final boolean timed = isMainThread();
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder)) {
+            if (timed) {
                 tuple.getSecond().startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
-                final DataTransactionResult result = tuple.getFirst().set(dataHolder, manipulator, function);
-                if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
-                    if (MinecraftServer.getServer().isCallingFromMinecraftThread()) {
-                        tuple.getSecond().stopTiming();
-                    }
-                    return result;
-                }
-            }
-            if (MinecraftServer.getServer().isCallingFromMinecraftThread()) {
+            final DataTransactionResult result = tuple.getFirst().supports(dataHolder) ? tuple.getFirst().set(dataHolder, manipulator, function) : null;
+            if (timed) {
                 tuple.getSecond().stopTiming();
             }
+            if (result != null && !result.getType().equals(DataTransactionResult.Type.FAILURE)) {
+                return result;
+            }
         }
         return DataTransactionResult.failResult(manipulator.asImmutable().getValues());
     }
 
     @Override
     public Optional<I> with(Key<? extends BaseValue<?>> key, Object value, I immutable) {
+        final boolean timed = isMainThread();
         for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
-            if (MinecraftServer.getServer().isCallingFromMinecraftThread()) {
+            if (timed) {
                 tuple.getSecond().startTiming();
             }
             final Optional<I> optional = tuple.getFirst().with(key, value, immutable);
-            if (MinecraftServer.getServer().isCallingFromMinecraftThread()) {
+            if (timed) {
                 tuple.getSecond().stopTiming();
             }
             if (optional.isPresent()) {
@@ -190,45 +211,36 @@ public Optional<I> with(Key<? extends BaseValue<?>> key, Object value, I immutab
 
     @Override
     public DataTransactionResult remove(DataHolder dataHolder) {
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
-            if (MinecraftServer.getServer().isCallingFromMinecraftThread()) {
+        final boolean timed = isMainThread();
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder)) {
+            if (timed) {
                 tuple.getSecond().startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
-                final DataTransactionResult result = tuple.getFirst().remove(dataHolder);
-                if (MinecraftServer.getServer().isCallingFromMinecraftThread()) {
-                    tuple.getSecond().stopTiming();
-                }
-                if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
-                    return result;
-                }
-            }
-            if (MinecraftServer.getServer().isCallingFromMinecraftThread()) {
+            final DataTransactionResult result = tuple.getFirst().supports(dataHolder) ? tuple.getFirst().remove(dataHolder) : null;
+            if (timed) {
                 tuple.getSecond().stopTiming();
             }
-
+            if (result != null && !result.getType().equals(DataTransactionResult.Type.FAILURE)) {
+                return result;
+            }
         }
         return DataTransactionResult.failNoData();
     }
 
     @Override
     public Optional<M> createFrom(DataHolder dataHolder) {
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
-            if (MinecraftServer.getServer().isCallingFromMinecraftThread()) {
+        final boolean timed = isMainThread();
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder)) {
+            if (timed) {
                 tuple.getSecond().startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
-                final Optional<M> optional = tuple.getFirst().createFrom(dataHolder);
-                if (MinecraftServer.getServer().isCallingFromMinecraftThread()) {
-                    tuple.getSecond().stopTiming();
-                }
-                if (optional.isPresent()) {
-                    return optional;
-                }
-            }
-            if (MinecraftServer.getServer().isCallingFromMinecraftThread()) {
+            final Optional<M> optional = tuple.getFirst().supports(dataHolder) ? tuple.getFirst().createFrom(dataHolder) : Optional.empty();
+            if (timed) {
                 tuple.getSecond().stopTiming();
             }
+            if (optional.isPresent()) {
+                return optional;
+            }
         }
         return Optional.empty();
     }
@@ -103,6 +103,7 @@ private NbtDataUtil() {
 
     public static final String CHUNK_DATA_LEVEL = "Level";
     public static final String CHUNK_DATA_SECTIONS = "Sections";
+    public static final String CHUNK_DATA_TERRAIN_POPULATED = "TerrainPopulated";
 
     // These are the NBT Tag byte id's that can be used in various places while manipulating compound tags
     public static final byte TAG_END = 0;
@@ -124,6 +125,8 @@ private NbtDataUtil() {
     public static final String SPONGE_ENTITY_CREATOR = "Creator";
     public static final String SPONGE_ENTITY_NOTIFIER = "Notifier";
     public static final String SPONGE_BLOCK_POS_TABLE = "BlockPosTable";
+    public static final String SPONGE_TRACKED_POSITIONS = "TrackedPositions";
+    public static final String SPONGE_TRACKED_INDEXES = "TrackedIndexes";
     public static final String SPONGE_PLAYER_UUID_TABLE = "PlayerIdTable";
     public static final String CUSTOM_MANIPULATOR_TAG_LIST = "CustomManipulators";
     public static final String PROJECTILE_DAMAGE_AMOUNT = "damageAmount";
@@ -0,0 +1,182 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import gnu.trove.iterator.TIntLongIterator;
+import gnu.trove.map.hash.TIntLongHashMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * A packed store of the owner and notifier indexes tracked for the block
+ * positions of a single chunk.
+ *
+ * <p>Positions are keyed by their chunk-relative int serialization (x in bits
+ * 0-3, y in bits 4-27 and z in bits 28-31) and both player indexes are packed
+ * into a single primitive long, so a lookup is one probe into a primitive hash
+ * map and no objects are retained per tracked block. An index of {@code -1}
+ * means no player is tracked for that role. The map is only allocated once
+ * the first position is tracked, as most chunks never track any.</p>
+ */
+public final class PlayerTrackerStore {
+
+    private static final long NO_ENTRY = pack(-1, -1);
+
+    private final int expectedSize;
+    @Nullable private TIntLongHashMap trackers;
+
+    public PlayerTrackerStore() {
+        this(16);
+    }
+
+    public PlayerTrackerStore(int expectedSize) {
+        this.expectedSize = expectedSize;
+    }
+
+    private long get(int position) {
+        return this.trackers == null ? NO_ENTRY : this.trackers.get(position);
+    }
+
+    private static long pack(int ownerIndex, int notifierIndex) {
+        return ((long) ownerIndex << 32) | (notifierIndex & 0xFFFFFFFFL);
+    }
+
+    private static int ownerOf(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    private static int notifierOf(long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * Converts the legacy short serialization (x in bits 0-3, y in bits 4-11
+     * and z in bits 12-15) to the int serialization used as key.
+     *
+     * @param serialized The short serialized position
+     * @return The int serialized position
+     */
+    public static int shortToIntPosition(short serialized) {
+        return (serialized & 0xF) | (serialized & 0xFF0) | (((serialized >> 12) & 0xF) << 28);
+    }
+
+    public int size() {
+        return this.trackers == null ? 0 : this.trackers.size();
+    }
+
+    public boolean isEmpty() {
+        return this.trackers == null || this.trackers.isEmpty();
+    }
+
+    public boolean contains(int position) {
+        return this.trackers != null && this.trackers.containsKey(position);
+    }
+
+    public int getOwnerIndex(int position) {
+        return ownerOf(this.get(position));
+    }
+
+    public int getNotifierIndex(int position) {
+        return notifierOf(this.get(position));
+    }
+
+    public void setOwnerIndex(int position, int ownerIndex) {
+        this.set(position, ownerIndex, notifierOf(this.get(position)));
+    }
+
+    public void setNotifierIndex(int position, int notifierIndex) {
+        this.set(position, ownerOf(this.get(position)), notifierIndex);
+    }
+
+    public void set(int position, int ownerIndex, int notifierIndex) {
+        if (ownerIndex == -1 && notifierIndex == -1) {
+            if (this.trackers != null) {
+                this.trackers.remove(position);
+            }
+        } else {
+            if (this.trackers == null) {
+                this.trackers = new TIntLongHashMap(this.expectedSize, 0.5F, 0, NO_ENTRY);
+            }
+            this.trackers.put(position, pack(ownerIndex, notifierIndex));
+        }
+    }
+
+    /**
+     * Gets the tracked positions, in the same order as the indexes returned
+     * by {@link #getIndexes()}.
+     *
+     * @return A new array of the tracked positions
+     */
+    public int[] getPositions() {
+        if (this.trackers == null) {
+            return new int[0];
+        }
+        final int[] positions = new int[this.trackers.size()];
+        final TIntLongIterator iterator = this.trackers.iterator();
+        for (int i = 0; iterator.hasNext(); i++) {
+            iterator.advance();
+            positions[i] = iterator.key();
+        }
+        return positions;
+    }
+
+    /**
+     * Gets the owner and notifier indexes of every tracked position,
+     * interleaved as {@code owner, notifier} pairs in the order of
+     * {@link #getPositions()}.
+     *
+     * @return A new array twice the size of this store
+     */
+    public int[] getIndexes() {
+        if (this.trackers == null) {
+            return new int[0];
+        }
+        final int[] indexes = new int[this.trackers.size() * 2];
+        final TIntLongIterator iterator = this.trackers.iterator();
+        for (int i = 0; iterator.hasNext(); i += 2) {
+            iterator.advance();
+            indexes[i] = ownerOf(iterator.value());
+            indexes[i + 1] = notifierOf(iterator.value());
+        }
+        return indexes;
+    }
+
+    /**
+     * Creates a store from arrays previously produced by
+     * {@link #getPositions()} and {@link #getIndexes()}.
+     *
+     * @param positions The tracked positions
+     * @param indexes The interleaved owner and notifier indexes
+     * @return The new store
+     */
+    public static PlayerTrackerStore fromArrays(int[] positions, int[] indexes) {
+        final int size = Math.min(positions.length, indexes.length / 2);
+        final PlayerTrackerStore store = new PlayerTrackerStore(Math.max(16, size));
+        for (int i = 0; i < size; i++) {
+            store.set(positions[i], indexes[i * 2], indexes[i * 2 + 1]);
+        }
+        return store;
+    }
+}
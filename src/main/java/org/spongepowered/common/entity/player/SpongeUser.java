@@ -49,6 +49,7 @@
 import org.spongepowered.common.data.util.DataQueries;
 import org.spongepowered.common.data.util.NbtDataUtil;
 import org.spongepowered.common.registry.type.world.WorldPropertyRegistryModule;
+import org.spongepowered.common.service.user.StoredUserIndex;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.DimensionManager;
 
@@ -80,9 +81,27 @@ public class SpongeUser implements ArmorEquipable, Tamer, DataSerializable, Carr
     private final GameProfile profile;
 
     private final Map<UUID, RespawnLocation> spawnLocations = Maps.newHashMap();
+    // Placeholders are never saved, their missing data would overwrite the stored data
+    private final boolean placeholder;
 
     public SpongeUser(GameProfile profile) {
+        this(profile, false);
+    }
+
+    private SpongeUser(GameProfile profile, boolean placeholder) {
         this.profile = profile;
+        this.placeholder = placeholder;
+    }
+
+    /**
+     * Creates a user that stands in for one whose stored data has not been
+     * read yet. Changes made to it are never saved.
+     *
+     * @param profile The profile of the user
+     * @return The placeholder user
+     */
+    public static SpongeUser placeholder(GameProfile profile) {
+        return new SpongeUser(profile, true);
     }
 
     private void reset() {
@@ -292,10 +311,15 @@ public ImmutableMap<UUID, RespawnLocation> removeAllBeds() {
     }
 
     private void markDirty() {
-        dirtyUsers.add(this);
+        if (!this.placeholder) {
+            dirtyUsers.add(this);
+        }
     }
 
     public void save() {
+        if (this.placeholder) {
+            return;
+        }
         SaveHandler saveHandler = (SaveHandler) DimensionManager.getWorldFromDimId(0).getSaveHandler();
         File dataFile = new File(saveHandler.playersDirectory, getUniqueId() + ".dat");
         NBTTagCompound tag;
@@ -313,6 +337,7 @@ public void save() {
         try {
             CompressedStreamTools.writeCompressed(tag, new FileOutputStream(dataFile));
             dirtyUsers.remove(this);
+            StoredUserIndex.onDataSaved(getUniqueId());
         } catch (IOException e) {
             SpongeHooks.logWarning("Failed to save user file {}. {}", dataFile, e);
         }
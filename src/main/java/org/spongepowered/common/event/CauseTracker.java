@@ -90,6 +90,7 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
+import org.spongepowered.common.block.SpongeBlockSnapshotBuilder;
 import org.spongepowered.common.data.util.NbtDataUtil;
 import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.interfaces.IMixinChunk;
@@ -112,6 +113,7 @@
 import java.util.ListIterator;
 import java.util.Optional;
 import java.util.Random;
+import java.util.UUID;
 
 import javax.annotation.Nullable;
 
@@ -142,6 +144,11 @@ public final class CauseTracker {
     private boolean worldSpawnerRunning;
     private boolean chunkSpawnerRunning;
     private Deque<Cause> causeStack = new ArrayDeque<>();
+    // The source of the current block or tile entity tick, its snapshot and cause are only built when requested
+    private final PendingTick pendingTick = new PendingTick();
+    private final List<NamedCause> pendingNamedCauses = new ArrayList<>();
+    private final SpongeBlockSnapshotBuilder finalSnapshotBuilder = new SpongeBlockSnapshotBuilder();
+    private boolean pendingTickBlock;
     private Packet<?> currentPlayerPacket;
     public final Timing causeTrackerBlockTimer;
     public final Timing causeTrackerBlockBreakTimer;
@@ -258,17 +265,30 @@ public void setCurrentNotifier(@Nullable User currentNotifier) {
     }
 
     public boolean hasTickingBlock() {
-        return this.currentTickBlock != null;
+        return this.pendingTickBlock || this.currentTickBlock != null;
     }
 
     public Optional<BlockSnapshot> getCurrentTickBlock() {
+        if (this.pendingTickBlock) {
+            this.currentTickBlock = this.pendingTick.getSnapshot(this);
+            this.pendingTickBlock = false;
+        }
         return Optional.ofNullable(this.currentTickBlock);
     }
 
     public void setCurrentTickBlock(@Nullable BlockSnapshot currentTickBlock) {
+        this.pendingTickBlock = false;
         this.currentTickBlock = currentTickBlock;
     }
 
+    @Nullable
+    private BlockPos getCurrentTickBlockPos() {
+        if (this.pendingTickBlock) {
+            return this.pendingTick.pos;
+        }
+        return this.currentTickBlock == null ? null : ((SpongeBlockSnapshot) this.currentTickBlock).getBlockPos();
+    }
+
     public boolean hasTickingEntity() {
         return this.currentTickEntity != null;
     }
@@ -324,21 +344,89 @@ public void setChunkSpawnerRunning(boolean chunkSpawnerRunning) {
         this.chunkSpawnerRunning = chunkSpawnerRunning;
     }
 
+    public boolean hasCurrentCause() {
+        return this.pendingTick.causePending || !this.causeStack.isEmpty();
+    }
+
     public Cause getCurrentCause() {
+        this.flushPendingCause();
         return this.causeStack.peekFirst();
     }
 
     public void addCause(Cause cause) {
+        this.flushPendingCause();
         this.causeStack.addFirst(cause);
     }
 
     public void removeCurrentCause() {
+        if (this.pendingTick.causePending) {
+            // Never built, nothing to remove from the stack
+            this.pendingTick.causePending = false;
+            return;
+        }
         Cause currentCause = this.causeStack.peekFirst();
         if (currentCause != null) {
             this.causeStack.remove(currentCause);
         }
     }
 
+    /**
+     * Builds the cause of the pending block or tile entity tick, if there is
+     * one, and pushes it onto the cause stack.
+     */
+    private void flushPendingCause() {
+        PendingTick pending = this.pendingTick;
+        if (!pending.causePending) {
+            return;
+        }
+        pending.causePending = false;
+        List<NamedCause> namedCauses = this.pendingNamedCauses;
+        namedCauses.add(NamedCause.source(pending.pos != null ? pending.getSnapshot(this) : pending.source));
+        if (pending.schedulerSource != null) {
+            namedCauses.add(NamedCause.of("SchedulerSource", pending.schedulerSource));
+        }
+        if (pending.schedulerParentSource != null) {
+            namedCauses.add(NamedCause.of("SchedulerParentSource", pending.schedulerParentSource));
+        }
+        if (pending.notifier != null) {
+            namedCauses.add(NamedCause.notifier(pending.notifier));
+        }
+        this.causeStack.addFirst(Cause.of(namedCauses));
+        namedCauses.clear();
+    }
+
+    /**
+     * Readies the pending tick for a new block or tile entity, first building
+     * anything the previous one still owes to the cause stack or tick block.
+     */
+    private PendingTick beginPendingTick() {
+        this.flushPendingCause();
+        if (this.pendingTickBlock) {
+            this.currentTickBlock = this.pendingTick.getSnapshot(this);
+            this.pendingTickBlock = false;
+        }
+        this.pendingTick.reset();
+        this.pendingTick.causePending = true;
+        return this.pendingTick;
+    }
+
+    /**
+     * Defers the snapshot of the ticking block until something asks for it.
+     * Blocks with a tile entity are captured straight away as their data may
+     * change during the tick.
+     */
+    private void beginPendingTickBlock(PendingTick pending, IBlockState state, BlockPos pos) {
+        pending.state = state;
+        pending.actualState = state.getBlock().getActualState(state, this.getMinecraftWorld(), pos);
+        pending.pos = pos;
+        if (SpongeImplHooks.blockHasTileEntity(state.getBlock(), state)) {
+            this.currentTickBlock = pending.getSnapshot(this);
+        } else {
+            this.currentTickBlock = null;
+            this.pendingTickBlock = true;
+        }
+    }
+
     public Packet<?> getCurrentPlayerPacket() {
         return this.currentPlayerPacket;
     }
@@ -361,14 +449,11 @@ public void postTrackEntity() {
     }
 
     public void preTrackTileEntity(TileEntity tile) {
+        PendingTick pending = this.beginPendingTick();
         this.currentTickTileEntity = tile;
         this.trackBlockPositionCausePreTick(((net.minecraft.tileentity.TileEntity) tile).getPos());
-        List<NamedCause> namedCauses = new ArrayList<>();
-        namedCauses.add(NamedCause.source(this.currentTickTileEntity));
-        if (this.currentNotifier != null) {
-            namedCauses.add(NamedCause.notifier(this.currentNotifier));
-        }
-        this.addCause(Cause.of(namedCauses));
+        pending.source = tile;
+        pending.notifier = this.currentNotifier;
     }
 
     public void postTrackTileEntity() {
@@ -379,20 +464,16 @@ public void postTrackTileEntity() {
     }
 
     public void preTrackBlock(IBlockState state, BlockPos pos) {
-        this.currentTickBlock = this.getMixinWorld().createSpongeBlockSnapshot(state, state.getBlock().getActualState(state, this.getMinecraftWorld(), pos), pos, 0);
+        PendingTick pending = this.beginPendingTick();
+        this.beginPendingTickBlock(pending, state, pos);
         this.trackBlockPositionCausePreTick(pos);
-        List<NamedCause> namedCauses = new ArrayList<>();
-        namedCauses.add(NamedCause.source(this.currentTickBlock));
-        if (this.currentNotifier != null) {
-            namedCauses.add(NamedCause.notifier(this.currentNotifier));
-        }
-        this.addCause(Cause.of(namedCauses));
+        pending.notifier = this.currentNotifier;
     }
 
     public void postTrackBlock() {
         this.handlePostTickCaptures();
         this.removeCurrentCause();
-        this.currentTickBlock = null;
+        this.setCurrentTickBlock(null);
         this.currentNotifier = null;
     }
 
@@ -401,7 +482,7 @@ public void setSpecificCapture(boolean flag) {
     }
 
     public void handlePostTickCaptures() {
-        if (this.getMinecraftWorld().isRemote || this.restoringBlocks || this.causeStack.isEmpty()) {
+        if (this.getMinecraftWorld().isRemote || this.restoringBlocks || !this.hasCurrentCause()) {
             return;
         } else if (this.getCapturedSpawnedEntities().isEmpty() && this.getCapturedSpawnedEntityItems().isEmpty() && this.getCapturedSpongeBlockSnapshots().isEmpty()
                    && StaticMixinHelper.packetPlayer == null) {
@@ -660,6 +741,10 @@ public void handleBlockBreak(int preEntitySize, int preEntityItemSize, BlockPos
         this.causeTrackerBlockBreakTimer.startTiming();
         int postEntitySize = this.capturedSpawnedEntities.size();
         int postEntityItemSize = this.capturedSpawnedEntityItems.size();
+        if (originalBlockSnapshot != null && (postEntitySize > preEntitySize || postEntityItemSize > preEntityItemSize)) {
+            // The snapshot becomes part of the spawn causes of the drops
+            ((SpongeBlockSnapshot) originalBlockSnapshot).resolveTileData();
+        }
         // handle captured entities
         if (preEntitySize != postEntitySize && postEntitySize > preEntitySize) {
             // add spawn causes for newly captured items
@@ -709,6 +794,13 @@ public boolean handleBlockCaptures() {
         }
 
         this.causeTrackerBlockTimer.startTiming();
+        if (!SpongeImpl.hasListeners(ChangeBlockEvent.class)) {
+            // Nothing would see the events, so they are not built
+            this.applyBlockCaptures(capturedBlockList);
+            this.causeTrackerBlockTimer.stopTiming();
+            return true;
+        }
+
         Cause cause = this.getCurrentCause();
         EntityPlayerMP player = StaticMixinHelper.packetPlayer;
 
@@ -753,6 +845,12 @@ public boolean handleBlockCaptures() {
         blockModifyTransactions = modifyBuilder.build();
         blockPlaceTransactions = placeBuilder.build();
         blockMultiTransactions = multiBuilder.build();
+
+        // Listeners may keep the snapshots, their tile entity data has to be read before anything else changes it
+        for (Transaction<BlockSnapshot> transaction : blockMultiTransactions) {
+            ((SpongeBlockSnapshot) transaction.getOriginal()).resolveTileData();
+        }
+
         this.causeTrackerBlockTimer.stopTiming();
         ChangeBlockEvent changeBlockEvent;
         if (blockBreakTransactions.size() > 0) {
@@ -870,57 +968,123 @@ public boolean handleBlockCaptures() {
                 }
                 return false;
             } else {
-                for (Transaction<BlockSnapshot> transaction : blockEvent.getTransactions()) {
-                    if (!transaction.isValid()) {
-                        this.invalidTransactions.add(transaction);
-                    } else {
-                        if (captureType == CaptureType.BREAK && !(transaction.getOriginal().getState().getType() instanceof BlockLiquid) && cause.first(User.class).isPresent()) {
-                            BlockPos pos = VecHelper.toBlockPos(transaction.getOriginal().getPosition());
-                            for (EntityHanging hanging : SpongeHooks.findHangingEntities(this.getMinecraftWorld(), pos)) {
-                                if (hanging != null) {
-                                    if (hanging instanceof EntityItemFrame) {
-                                        EntityItemFrame itemFrame = (EntityItemFrame) hanging;
-                                        net.minecraft.entity.Entity dropCause = null;
-                                        if (cause.root() instanceof net.minecraft.entity.Entity) {
-                                            dropCause = (net.minecraft.entity.Entity) cause.root();
-                                        }
-
-                                        itemFrame.dropItemOrSelf(dropCause, true);
-                                        itemFrame.setDead();
-                                    }
+                processValidTransactions(captureType, blockEvent.getTransactions(), cause, player, packet);
+            }
+        }
+        this.causeTrackerBlockTimer.stopTiming();
+        return true;
+    }
+
+    /**
+     * Applies captured block changes that no {@link ChangeBlockEvent} is
+     * observing, in the order their events would have been posted. The final
+     * snapshots only hold the new block state as nothing else is read from
+     * them.
+     *
+     * @param capturedBlockList The captured original snapshots
+     */
+    private void applyBlockCaptures(List<BlockSnapshot> capturedBlockList) {
+        List<Transaction<BlockSnapshot>> breakTransactions = new ArrayList<>();
+        List<Transaction<BlockSnapshot>> modifyTransactions = new ArrayList<>();
+        List<Transaction<BlockSnapshot>> placeTransactions = new ArrayList<>();
+        List<Transaction<BlockSnapshot>> decayTransactions = new ArrayList<>();
+        UUID worldId = this.getWorld().getUniqueId();
+        for (BlockSnapshot snapshot : capturedBlockList) {
+            SpongeBlockSnapshot blockSnapshot = (SpongeBlockSnapshot) snapshot;
+            // Nothing reads the tile entity data of the original snapshots
+            blockSnapshot.discardTileData();
+            BlockPos pos = blockSnapshot.getBlockPos();
+            IBlockState currentState = this.getMinecraftWorld().getBlockState(pos);
+            this.finalSnapshotBuilder.reset();
+            this.finalSnapshotBuilder.blockState((BlockState) currentState)
+                .extendedState((BlockState) currentState.getBlock().getActualState(currentState, this.getMinecraftWorld(), pos))
+                .worldId(worldId)
+                .position(blockSnapshot.getPosition());
+            Transaction<BlockSnapshot> transaction = new Transaction<>(blockSnapshot, new SpongeBlockSnapshot(this.finalSnapshotBuilder, 0));
+            CaptureType captureType = blockSnapshot.captureType;
+            if (captureType == CaptureType.BREAK) {
+                breakTransactions.add(transaction);
+            } else if (captureType == CaptureType.DECAY) {
+                decayTransactions.add(transaction);
+            } else if (captureType == CaptureType.PLACE) {
+                placeTransactions.add(transaction);
+            } else if (captureType == CaptureType.MODIFY) {
+                modifyTransactions.add(transaction);
+            }
+        }
+        capturedBlockList.clear();
+
+        EntityPlayerMP player = StaticMixinHelper.packetPlayer;
+        C08PacketPlayerBlockPlacement packet = null;
+        if (this.currentPlayerPacket instanceof C08PacketPlayerBlockPlacement) {
+            packet = (C08PacketPlayerBlockPlacement) this.currentPlayerPacket;
+        }
+        if (breakTransactions.size() > 0) {
+            processValidTransactions(CaptureType.BREAK, breakTransactions, null, player, packet);
+        }
+        if (modifyTransactions.size() > 0) {
+            processValidTransactions(CaptureType.MODIFY, modifyTransactions, null, player, packet);
+        }
+        if (placeTransactions.size() > 0) {
+            processValidTransactions(CaptureType.PLACE, placeTransactions, null, player, packet);
+        }
+        if (decayTransactions.size() > 0) {
+            processValidTransactions(CaptureType.DECAY, decayTransactions, null, player, packet);
+        }
+    }
+
+    private void processValidTransactions(CaptureType captureType, List<Transaction<BlockSnapshot>> transactions, @Nullable Cause cause,
+            @Nullable EntityPlayerMP player, @Nullable C08PacketPlayerBlockPlacement packet) {
+        for (Transaction<BlockSnapshot> transaction : transactions) {
+            if (!transaction.isValid()) {
+                this.invalidTransactions.add(transaction);
+            } else {
+                if (captureType == CaptureType.BREAK && cause == null) {
+                    cause = this.getCurrentCause();
+                }
+                if (captureType == CaptureType.BREAK && !(transaction.getOriginal().getState().getType() instanceof BlockLiquid) && cause.first(User.class).isPresent()) {
+                    BlockPos pos = VecHelper.toBlockPos(transaction.getOriginal().getPosition());
+                    for (EntityHanging hanging : SpongeHooks.findHangingEntities(this.getMinecraftWorld(), pos)) {
+                        if (hanging != null) {
+                            if (hanging instanceof EntityItemFrame) {
+                                EntityItemFrame itemFrame = (EntityItemFrame) hanging;
+                                net.minecraft.entity.Entity dropCause = null;
+                                if (cause.root() instanceof net.minecraft.entity.Entity) {
+                                    dropCause = (net.minecraft.entity.Entity) cause.root();
                                 }
-                            }
-                        }
 
-                        if (captureType == CaptureType.PLACE && player != null && this.currentPlayerPacket instanceof C08PacketPlayerBlockPlacement) {
-                            BlockPos pos = VecHelper.toBlockPos(transaction.getFinal().getPosition());
-                            IMixinChunk spongeChunk = (IMixinChunk) this.getMinecraftWorld().getChunkFromBlockCoords(pos);
-                            spongeChunk.addTrackedBlockPosition((net.minecraft.block.Block) transaction.getFinal().getState().getType(), pos,
-                                (User) player, PlayerTracker.Type.OWNER);
-                            spongeChunk.addTrackedBlockPosition((net.minecraft.block.Block) transaction.getFinal().getState().getType(), pos,
-                                (User) player, PlayerTracker.Type.NOTIFIER);
+                                itemFrame.dropItemOrSelf(dropCause, true);
+                                itemFrame.setDead();
+                            }
                         }
                     }
                 }
 
-                if (this.invalidTransactions.size() > 0) {
-                    for (Transaction<BlockSnapshot> transaction : Lists.reverse(this.invalidTransactions)) {
-                        this.restoringBlocks = true;
-                        transaction.getOriginal().restore(true, false);
-                        this.restoringBlocks = false;
-                    }
-                    handlePostPlayerBlockEvent(captureType, this.invalidTransactions);
+                if (captureType == CaptureType.PLACE && player != null && this.currentPlayerPacket instanceof C08PacketPlayerBlockPlacement) {
+                    BlockPos pos = VecHelper.toBlockPos(transaction.getFinal().getPosition());
+                    IMixinChunk spongeChunk = (IMixinChunk) this.getMinecraftWorld().getChunkFromBlockCoords(pos);
+                    spongeChunk.addTrackedBlockPosition((net.minecraft.block.Block) transaction.getFinal().getState().getType(), pos,
+                        (User) player, PlayerTracker.Type.OWNER);
+                    spongeChunk.addTrackedBlockPosition((net.minecraft.block.Block) transaction.getFinal().getState().getType(), pos,
+                        (User) player, PlayerTracker.Type.NOTIFIER);
                 }
+            }
+        }
 
-                this.markAndNotifyBlockPost(blockEvent.getTransactions(), captureType);
-
-                if (captureType == CaptureType.PLACE && player != null && packet != null && packet.getStack() != null) {
-                    player.addStat(StatList.objectUseStats[net.minecraft.item.Item.getIdFromItem(packet.getStack().getItem())], 1);
-                }
+        if (this.invalidTransactions.size() > 0) {
+            for (Transaction<BlockSnapshot> transaction : Lists.reverse(this.invalidTransactions)) {
+                this.restoringBlocks = true;
+                transaction.getOriginal().restore(true, false);
+                this.restoringBlocks = false;
             }
+            handlePostPlayerBlockEvent(captureType, this.invalidTransactions);
+        }
+
+        this.markAndNotifyBlockPost(transactions, captureType);
+
+        if (captureType == CaptureType.PLACE && player != null && packet != null && packet.getStack() != null) {
+            player.addStat(StatList.objectUseStats[net.minecraft.item.Item.getIdFromItem(packet.getStack().getItem())], 1);
         }
-        this.causeTrackerBlockTimer.stopTiming();
-        return true;
     }
 
     private void handlePostPlayerBlockEvent(CaptureType captureType, List<Transaction<BlockSnapshot>> transactions) {
@@ -1039,9 +1203,9 @@ public boolean processSpawnEntity(Entity entity, Cause spawnCause) {
                     world.playerEntities.add(entityplayer);
                     world.updateAllPlayersSleepingFlag();
                 }
-                if (SpongeImpl.postEvent(SpongeEventFactory.createSpawnEntityEvent(cause, Lists.newArrayList(entity),
-                        Lists.newArrayList(entity.createSnapshot()), getWorld())) && !flag) {
-                    return false;
+                if (SpongeImpl.hasListeners(SpawnEntityEvent.class)) {
+                    SpongeImpl.postEvent(SpongeEventFactory.createSpawnEntityEvent(cause, Lists.newArrayList(entity),
+                            Lists.newArrayList(entity.createSnapshot()), getWorld()));
                 }
                 this.getMinecraftWorld().getChunkFromChunkCoords(i, j).addEntity(entityIn);
                 this.getMinecraftWorld().loadedEntityList.add(entityIn);
@@ -1055,9 +1219,6 @@ public boolean processSpawnEntity(Entity entity, Cause spawnCause) {
                 return false;
             }
 
-            org.spongepowered.api.event.entity.SpawnEntityEvent event = null;
-            List<Entity> entitiesToSpawn = Lists.newArrayList(entity);
-            ImmutableList<EntitySnapshot> entitySnapshots = ImmutableList.of(entity.createSnapshot());
             EntityLivingBase entityLiving = null;
             net.minecraft.entity.Entity nonLivingEntity = null;
             if (this.currentTickEntity instanceof EntityLivingBase) {
@@ -1065,12 +1226,35 @@ public boolean processSpawnEntity(Entity entity, Cause spawnCause) {
             } else if (this.currentTickEntity != null) {
                 nonLivingEntity = (net.minecraft.entity.Entity) this.currentTickEntity;
             }
+            Class<? extends SpawnEntityEvent> eventType;
             if (entityIn instanceof EntityItem) {
                 if ((nonLivingEntity != null && nonLivingEntity.isDead) || entityIn instanceof EntityXPOrb || (entityLiving != null && (entityLiving.getHealth() <= 0 || entityLiving.isDead))) {
-                    event = SpongeEventFactory.createDropItemEventDestruct(cause, entitiesToSpawn, entitySnapshots, this.getWorld());
+                    eventType = DropItemEvent.Destruct.class;
                 } else {
-                    event = SpongeEventFactory.createDropItemEventDispense(cause, entitiesToSpawn, entitySnapshots, this.getWorld());
+                    eventType = DropItemEvent.Dispense.class;
                 }
+            } else {
+                eventType = SpawnEntityEvent.class;
+            }
+
+            if (!SpongeImpl.hasListeners(eventType)) {
+                // Skip creating the snapshot and event when nothing is listening
+                if (entityIn instanceof EntityWeatherEffect) {
+                    return addWeatherEffect(entityIn, cause);
+                }
+                this.getMinecraftWorld().getChunkFromChunkCoords(i, j).addEntity(entityIn);
+                this.getMinecraftWorld().loadedEntityList.add(entityIn);
+                this.getMixinWorld().onSpongeEntityAdded(entityIn);
+                return true;
+            }
+
+            SpawnEntityEvent event;
+            List<Entity> entitiesToSpawn = Lists.newArrayList(entity);
+            ImmutableList<EntitySnapshot> entitySnapshots = ImmutableList.of(entity.createSnapshot());
+            if (eventType == DropItemEvent.Destruct.class) {
+                event = SpongeEventFactory.createDropItemEventDestruct(cause, entitiesToSpawn, entitySnapshots, this.getWorld());
+            } else if (eventType == DropItemEvent.Dispense.class) {
+                event = SpongeEventFactory.createDropItemEventDispense(cause, entitiesToSpawn, entitySnapshots, this.getWorld());
             } else {
                 event = SpongeEventFactory.createSpawnEntityEvent(cause, entitiesToSpawn, entitySnapshots, this.getWorld());
             }
@@ -1103,29 +1287,24 @@ public void randomTickBlock(Block block, BlockPos pos, IBlockState state, Random
 
     // By this point, currentPending(NextTickListEntry) should always be available
     public void updateTickBlock(Block block, BlockPos pos, IBlockState state, Random rand) {
-        this.currentTickBlock = this.getMixinWorld().createSpongeBlockSnapshot(state, state.getBlock().getActualState(state, this.getMinecraftWorld(), pos), pos, 0);
-        List<NamedCause> namedCauses = new ArrayList<>();
-        namedCauses.add(NamedCause.source(this.currentTickBlock));
+        PendingTick pending = this.beginPendingTick();
+        this.beginPendingTickBlock(pending, state, pos);
         if (this.currentPendingBlockUpdate.hasTickingBlock()) {
-            namedCauses.add(NamedCause.of("SchedulerSource", this.currentPendingBlockUpdate.getCurrentTickBlock().get()));
+            pending.schedulerSource = this.currentPendingBlockUpdate.getCurrentTickBlock().get();
             if (this.currentPendingBlockUpdate.hasTickingTileEntity()) {
-                namedCauses.add(NamedCause.of("SchedulerParentSource", this.currentPendingBlockUpdate.getCurrentTickTileEntity().get()));
+                pending.schedulerParentSource = this.currentPendingBlockUpdate.getCurrentTickTileEntity().get();
             }
         } else if (this.currentPendingBlockUpdate.hasTickingTileEntity()) {
-            namedCauses.add(NamedCause.of("SchedulerSource", this.currentPendingBlockUpdate.getCurrentTickTileEntity().get()));
+            pending.schedulerSource = this.currentPendingBlockUpdate.getCurrentTickTileEntity().get();
         }
 
         if (!this.currentPendingBlockUpdate.hasSourceUser()) {
             this.trackBlockPositionCausePreTick(pos);
-            if (this.currentNotifier != null) {
-                namedCauses.add(NamedCause.notifier(this.currentNotifier));
-            }
         } else {
             this.currentNotifier = this.currentPendingBlockUpdate.getSourceUser().get();
-            namedCauses.add(NamedCause.notifier(this.currentNotifier));
         }
+        pending.notifier = this.currentNotifier;
 
-        this.addCause(Cause.of(namedCauses));
         boolean captureBlocks = this.isCapturingBlocks();
         this.captureBlocks = true;
         block.updateTick(this.getMinecraftWorld(), pos, state, rand);
@@ -1146,7 +1325,7 @@ public void notifyBlockOfStateChange(BlockPos notifyPos, final Block sourceBlock
             try {
                 if (!this.tryAndTrackActiveUser(notifyPos, PlayerTracker.Type.NOTIFIER).isPresent()) {
                     if (this.hasTickingBlock()) {
-                        this.trackTargetBlockFromSource(((SpongeBlockSnapshot) this.currentTickBlock).getBlockPos(), sourcePos, iblockstate.getBlock(), notifyPos,
+                        this.trackTargetBlockFromSource(this.getCurrentTickBlockPos(), sourcePos, iblockstate.getBlock(), notifyPos,
                                 PlayerTracker.Type.NOTIFIER);
                     }
                 }
@@ -1199,7 +1378,7 @@ public void markAndNotifyBlockPost(List<Transaction<BlockSnapshot>> transactions
                 this.setCurrentTickBlock(this.getMixinWorld().createSpongeBlockSnapshot(newState,
                         newState.getBlock().getActualState(newState, proxyBlockAccess, pos), pos, updateFlag));
                 List<NamedCause> namedCauses = new ArrayList<>();
-                namedCauses.add(NamedCause.source(this.currentTickBlock));
+                namedCauses.add(NamedCause.source(this.getCurrentTickBlock().get()));
                 namedCauses.add(NamedCause.of("ParentSource", cause.root()));
                 if (this.currentNotifier != null) {
                     namedCauses.add(NamedCause.notifier(this.currentNotifier));
@@ -1409,4 +1588,37 @@ public void trackEntityOwner(Entity entity) {
             }
         }
     }
+
+    private static final class PendingTick {
+
+        boolean causePending;
+        @Nullable IBlockState state;
+        @Nullable IBlockState actualState;
+        @Nullable BlockPos pos;
+        @Nullable BlockSnapshot snapshot;
+        @Nullable Object source;
+        @Nullable Object schedulerSource;
+        @Nullable Object schedulerParentSource;
+        @Nullable User notifier;
+
+        BlockSnapshot getSnapshot(CauseTracker causeTracker) {
+            if (this.snapshot == null) {
+                this.snapshot = causeTracker.getMixinWorld().createSpongeBlockSnapshot(this.state, this.actualState, this.pos, 0);
+            }
+            return this.snapshot;
+        }
+
+        void reset() {
+            this.causePending = false;
+            this.state = null;
+            this.actualState = null;
+            this.pos = null;
+            this.snapshot = null;
+            this.source = null;
+            this.schedulerSource = null;
+            this.schedulerParentSource = null;
+            this.notifier = null;
+        }
+    }
+
 }
@@ -703,18 +703,21 @@ public static DropItemEvent.Dispense callDropItemEventDispenseSingle(net.minecra
     }
 
     public static boolean handleCollideBlockEvent(Block block, net.minecraft.world.World world, BlockPos pos, IBlockState state, net.minecraft.entity.Entity entity, Direction direction) {
-        Cause cause = Cause.of(NamedCause.of(NamedCause.PHYSICAL, entity));
         IMixinWorld spongeWorld = (IMixinWorld) world;
         final CauseTracker causeTracker = spongeWorld.getCauseTracker();
-        if (!(entity instanceof EntityPlayer)) {
-            if (causeTracker.hasNotifier()) {
-                cause = cause.with(NamedCause.source(causeTracker.getCurrentNotifier()));
+        boolean cancelled = false;
+        if (SpongeImpl.hasListeners(CollideBlockEvent.class)) {
+            Cause cause = Cause.of(NamedCause.of(NamedCause.PHYSICAL, entity));
+            if (!(entity instanceof EntityPlayer)) {
+                if (causeTracker.hasNotifier()) {
+                    cause = cause.with(NamedCause.source(causeTracker.getCurrentNotifier()));
+                }
             }
-        }
 
-        // TODO: Add target side support
-        CollideBlockEvent event = SpongeEventFactory.createCollideBlockEvent(cause, (BlockState) state, new Location<World>((World) world, VecHelper.toVector(pos)), direction);
-        boolean cancelled = SpongeImpl.postEvent(event);
+            // TODO: Add target side support
+            CollideBlockEvent event = SpongeEventFactory.createCollideBlockEvent(cause, (BlockState) state, new Location<World>((World) world, VecHelper.toVector(pos)), direction);
+            cancelled = SpongeImpl.postEvent(event);
+        }
         if (!cancelled) {
             IMixinEntity spongeEntity = (IMixinEntity) entity;
             if (!pos.equals(spongeEntity.getLastCollidedBlockPos())) {
@@ -948,6 +951,9 @@ public static void handleEntityMovement(net.minecraft.entity.Entity entity) {
         if (entity instanceof Player) {
             return; // this is handled elsewhere
         }
+        if (!SpongeImpl.hasListeners(DisplaceEntityEvent.Move.class)) {
+            return;
+        }
         if (entity.lastTickPosX != entity.posX || entity.lastTickPosY != entity.posY || entity.lastTickPosZ != entity.posZ
             || entity.rotationPitch != entity.prevRotationPitch || entity.rotationYaw != entity.prevRotationYaw) {
             // yes we have a move event.
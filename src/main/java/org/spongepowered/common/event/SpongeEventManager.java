@@ -28,11 +28,10 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import co.aikar.timings.TimingsManager;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Sets;
 import com.google.common.reflect.TypeToken;
@@ -53,8 +52,10 @@
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import javax.inject.Inject;
@@ -74,16 +75,24 @@ public class SpongeEventManager implements EventManager {
 
     /**
      * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or
-     * removed.</p>
+     * <p>Entries are immutable and only replaced when a handler for the
+     * event type or one of its supertypes is added or removed, the rest of
+     * the cache is left untouched.</p>
      */
-    private final LoadingCache<Class<? extends Event>, RegisteredListener.Cache> handlersCache =
-            CacheBuilder.newBuilder().build(new CacheLoader<Class<? extends Event>, RegisteredListener.Cache>() {
-                @Override
-                public RegisteredListener.Cache load(Class<? extends Event> eventClass) throws Exception {
-                    return bakeHandlers(eventClass);
-                }
-            });
+    private final Map<Class<?>, RegisteredListener.Cache> handlersCache = new ConcurrentHashMap<>();
+
+    /**
+     * The event supertypes (including itself) of every event type in the
+     * {@link #handlersCache}. Guarded by {@link #lock}.
+     */
+    private final Map<Class<?>, Set<Class<?>>> eventTypesCache = Maps.newHashMap();
+
+    /**
+     * Whether an event type, or any of its supertypes or subtypes, has at
+     * least one registered handler. Cleared whenever handlers are added or
+     * removed and lazily refilled by {@link #hasListeners(Class)}.
+     */
+    private final Map<Class<?>, Boolean> shouldFireCache = new ConcurrentHashMap<>();
 
     @Inject
     public SpongeEventManager(PluginManager pluginManager) {
@@ -92,14 +101,10 @@ public SpongeEventManager(PluginManager pluginManager) {
 
     RegisteredListener.Cache bakeHandlers(Class<?> rootEvent) {
         List<RegisteredListener<?>> handlers = Lists.newArrayList();
-        @SuppressWarnings({"unchecked", "rawtypes"})
-        Set<Class<?>> types = (Set) TypeToken.of(rootEvent).getTypes().rawTypes();
 
         synchronized (this.lock) {
-            for (Class<?> type : types) {
-                if (Event.class.isAssignableFrom(type)) {
-                    handlers.addAll(this.handlersByEvent.get(type));
-                }
+            for (Class<?> type : getEventTypes(rootEvent)) {
+                handlers.addAll(this.handlersByEvent.get(type));
             }
         }
 
@@ -107,6 +112,39 @@ RegisteredListener.Cache bakeHandlers(Class<?> rootEvent) {
         return new RegisteredListener.Cache(handlers);
     }
 
+    private Set<Class<?>> getEventTypes(Class<?> rootEvent) {
+        synchronized (this.lock) {
+            Set<Class<?>> types = this.eventTypesCache.get(rootEvent);
+            if (types == null) {
+                ImmutableSet.Builder<Class<?>> builder = ImmutableSet.builder();
+                for (Class<?> type : TypeToken.of(rootEvent).getTypes().rawTypes()) {
+                    if (Event.class.isAssignableFrom(type)) {
+                        builder.add(type);
+                    }
+                }
+                types = builder.build();
+                this.eventTypesCache.put(rootEvent, types);
+            }
+            return types;
+        }
+    }
+
+    /**
+     * Re-bakes the cached handlers of every event type that is, or is a
+     * subtype of, one of the changed event types. Must be called while
+     * holding {@link #lock}.
+     *
+     * @param changedTypes The event types whose handlers changed
+     */
+    private void rebakeHandlers(Set<Class<?>> changedTypes) {
+        this.shouldFireCache.clear();
+        for (Class<?> eventClass : this.handlersCache.keySet()) {
+            if (!Collections.disjoint(getEventTypes(eventClass), changedTypes)) {
+                this.handlersCache.put(eventClass, bakeHandlers(eventClass));
+            }
+        }
+    }
+
     private static boolean isValidHandler(Method method) {
         int modifiers = method.getModifiers();
         if (Modifier.isStatic(modifiers) || !Modifier.isPublic(modifiers) || Modifier.isAbstract(modifiers)
@@ -125,16 +163,16 @@ private void register(RegisteredListener<?> handler) {
 
     private void register(List<RegisteredListener<?>> handlers) {
         synchronized (this.lock) {
-            boolean changed = false;
+            Set<Class<?>> changedTypes = Sets.newHashSet();
 
             for (RegisteredListener<?> handler : handlers) {
                 if (this.handlersByEvent.put(handler.getEventClass(), handler)) {
-                    changed = true;
+                    changedTypes.add(handler.getEventClass());
                 }
             }
 
-            if (changed) {
-                this.handlersCache.invalidateAll();
+            if (!changedTypes.isEmpty()) {
+                rebakeHandlers(changedTypes);
             }
         }
     }
@@ -218,19 +256,19 @@ public <T extends Event> void registerListener(Object plugin, Class<T> eventClas
 
     private void unregister(Predicate<RegisteredListener<?>> unregister) {
         synchronized (this.lock) {
-            boolean changed = false;
+            Set<Class<?>> changedTypes = Sets.newHashSet();
 
             Iterator<RegisteredListener<?>> itr = this.handlersByEvent.values().iterator();
             while (itr.hasNext()) {
                 RegisteredListener<?> handler = itr.next();
                 if (unregister.test(handler)) {
                     itr.remove();
-                    changed = true;
+                    changedTypes.add(handler.getEventClass());
                 }
             }
 
-            if (changed) {
-                this.handlersCache.invalidateAll();
+            if (!changedTypes.isEmpty()) {
+                rebakeHandlers(changedTypes);
             }
         }
     }
@@ -249,7 +287,55 @@ public void unregisterPluginListeners(Object pluginObj) {
     }
 
     protected RegisteredListener.Cache getHandlerCache(Event event) {
-        return this.handlersCache.getUnchecked(checkNotNull(event, "event").getClass());
+        return getHandlerCache(checkNotNull(event, "event").getClass());
+    }
+
+    protected RegisteredListener.Cache getHandlerCache(Class<?> eventClass) {
+        RegisteredListener.Cache cache = this.handlersCache.get(eventClass);
+        if (cache == null) {
+            // Baked while holding the lock so a concurrent registration can't
+            // be missed between baking and publishing the handlers.
+            synchronized (this.lock) {
+                cache = this.handlersCache.get(eventClass);
+                if (cache == null) {
+                    cache = bakeHandlers(eventClass);
+                    this.handlersCache.put(eventClass, cache);
+                }
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Gets whether an event of the given type could reach any registered
+     * handler, either through a handler for the type itself, one of its
+     * supertypes or one of its subtypes.
+     *
+     * <p>Callers on hot paths, through {@link SpongeImpl#hasListeners}, use
+     * this to skip building snapshots and events nobody will receive, so a
+     * false result means the event is never posted at all. Platforms that
+     * bridge events to another event bus, such as SpongeForge forwarding them
+     * to the Forge bus, must override this to also report the listeners of
+     * that bus, or those listeners silently stop receiving the events.</p>
+     *
+     * @param eventClass The event type
+     * @return True if posting an event of the type may notify a handler
+     */
+    public boolean hasListeners(Class<?> eventClass) {
+        Boolean shouldFire = this.shouldFireCache.get(eventClass);
+        if (shouldFire == null) {
+            synchronized (this.lock) {
+                shouldFire = false;
+                for (Class<?> type : this.handlersByEvent.keySet()) {
+                    if (type.isAssignableFrom(eventClass) || eventClass.isAssignableFrom(type)) {
+                        shouldFire = true;
+                        break;
+                    }
+                }
+                this.shouldFireCache.put(eventClass, shouldFire);
+            }
+        }
+        return shouldFire;
     }
 
     @SuppressWarnings("unchecked")
@@ -33,8 +33,8 @@
 import org.spongepowered.api.util.Direction;
 import org.spongepowered.api.world.Chunk;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.entity.PlayerTrackerStore;
 
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -42,9 +42,7 @@ public interface IMixinChunk {
 
     Cause getCurrentPopulateCause();
 
-    Map<Short, PlayerTracker> getTrackedShortPlayerPositions();
-
-    Map<Integer, PlayerTracker> getTrackedIntPlayerPositions();
+    PlayerTrackerStore getTrackedPlayerPositions();
 
     Optional<User> getBlockOwner(BlockPos pos);
 
@@ -58,12 +56,22 @@ public interface IMixinChunk {
 
     void addTrackedBlockPosition(Block block, BlockPos pos, User user, PlayerTracker.Type trackerType);
 
-    void setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPlayerPositions);
-
-    void setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPlayerPositions);
+    void setTrackedPlayerPositions(PlayerTrackerStore trackedPlayerPositions);
 
     void setNeighbor(Direction direction, Chunk neighbor);
 
     boolean areNeighborsLoaded();
 
+    /**
+     * Gets the world time at which the last player stopped watching this
+     * chunk, kept up to date by the player manager so the chunk gc does not
+     * have to look it up.
+     *
+     * @return The world time, or {@link Long#MAX_VALUE} while a player is
+     *     watching this chunk
+     */
+    long getLastWatchedTick();
+
+    void setLastWatchedTick(long tick);
+
 }
@@ -30,6 +30,7 @@
 import org.spongepowered.api.data.DataQuery;
 import org.spongepowered.api.data.DataView;
 import org.spongepowered.api.data.manipulator.DataManipulator;
+import org.spongepowered.common.block.LazyTileEntityData;
 import org.spongepowered.common.data.util.NbtDataUtil;
 
 public interface IMixinTileEntity {
@@ -86,6 +87,28 @@ default NBTTagCompound getSpongeData() {
 
     boolean isVanilla();
 
+    /**
+     * Gets the tile entity data to share with a new block snapshot. It is
+     * serialized when first read, or when this tile entity changes.
+     *
+     * @return The lazily serialized tile entity data
+     */
+    LazyTileEntityData getSnapshotData();
+
+    /**
+     * Serializes the data held by any pending block snapshots of this tile
+     * entity so later changes are not visible to them.
+     */
+    void materializeSnapshotData();
+
+    /**
+     * Forgets the given snapshot data if it is still pending, as no snapshot
+     * uses it anymore.
+     *
+     * @param snapshotData The released snapshot data
+     */
+    void discardSnapshotData(LazyTileEntityData snapshotData);
+
     // Timings
     Timing getTimingsHandler();
 }
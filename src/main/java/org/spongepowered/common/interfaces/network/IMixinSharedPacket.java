@@ -22,12 +22,18 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
  * THE SOFTWARE.
  */
-package org.spongepowered.common.interfaces;
+package org.spongepowered.common.interfaces.network;
 
-public interface IMixinCachable {
-
-    long getCacheKey();
-
-    void setCacheKey(long key);
+/**
+ * A packet that may be sent unchanged to many players.
+ */
+public interface IMixinSharedPacket {
 
+    /**
+     * Marks this packet as shared, so it is only serialized once and the
+     * bytes are reused for every connection it is sent to.
+     *
+     * <p>The packet must not be modified after it has been marked.</p>
+     */
+    void setShared();
 }
@@ -24,7 +24,9 @@
  */
 package org.spongepowered.common.interfaces.text;
 
+import net.minecraft.network.play.server.S02PacketChat;
 import net.minecraft.util.IChatComponent;
+import org.spongepowered.api.text.chat.ChatType;
 
 import java.util.Locale;
 
@@ -32,6 +34,15 @@ public interface IMixinText {
 
     IChatComponent toComponent();
 
+    /**
+     * Gets the chat packet for this text. The packet is shared between all
+     * players the text is sent to and must not be modified.
+     *
+     * @param type The chat type to send the text as
+     * @return The chat packet
+     */
+    S02PacketChat toChatPacket(ChatType type);
+
     String toPlain();
 
     String toJson();
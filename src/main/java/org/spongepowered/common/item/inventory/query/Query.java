@@ -26,6 +26,8 @@
 
 import static com.google.common.base.Preconditions.*;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.MapMaker;
 import com.google.common.collect.Maps;
 import gnu.trove.set.TIntSet;
 import gnu.trove.set.hash.TIntHashSet;
@@ -51,8 +53,12 @@
 import org.spongepowered.common.item.inventory.query.strategy.expression.ExpressionStrategy;
 
 import java.lang.reflect.Constructor;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Query<TInventory, TStack> {
     
@@ -96,6 +102,10 @@ public String getKey() {
             = Maps.<String, Class<? extends QueryStrategy<?, ?, ?>>>newHashMap();
     
     private static ResultAdapterProvider<?, ?> defaultResultProvider;
+
+    // Matches of structural queries per root lens, lens trees don't change once they are built. Matches
+    // are stored as child index paths from the root so the cached values never reference the lens tree
+    private static final Map<Lens<?, ?>, Map<Object, StructuralResult>> structuralResults = new MapMaker().weakKeys().makeMap();
     
     static {
         Query.registerDefaultStrategies();
@@ -123,6 +133,12 @@ public Inventory execute() {
     }
     
     public Inventory execute(ResultAdapterProvider<TInventory, TStack> resultProvider) {
+        final Object structuralKey = this.strategy.getStructuralKey();
+        if (structuralKey != null) {
+            return this.executeStructural(resultProvider, Arrays.asList(this.strategy.getClass(), structuralKey));
+        }
+
+        this.strategy.reset();
         if (this.strategy.matches(this.lens, null, this.inventory)) {
             return this.adapter;
         }
@@ -130,6 +146,56 @@ public Inventory execute(ResultAdapterProvider<TInventory, TStack> resultProvide
         return this.toResult(resultProvider, this.depthFirstSearch(this.lens));
     }
 
+    private Inventory executeStructural(ResultAdapterProvider<TInventory, TStack> resultProvider, Object key) {
+        final Map<Object, StructuralResult> results = Query.structuralResults.computeIfAbsent(this.lens, lens -> new ConcurrentHashMap<>());
+        StructuralResult result = results.get(key);
+        if (result == null) {
+            final boolean matchesRoot = this.strategy.matches(this.lens, null, this.inventory);
+            result = new StructuralResult(matchesRoot, matchesRoot ? ImmutableList.<int[]>of() : this.toPaths(this.depthFirstSearch(this.lens)));
+            results.put(key, result);
+        }
+
+        if (result.matchesRoot) {
+            return this.adapter;
+        }
+
+        final MutableLensSet<TInventory, TStack> matches = new MutableLensSetImpl<TInventory, TStack>(true);
+        for (int[] path : result.matches) {
+            Lens<TInventory, TStack> match = this.lens;
+            for (int index : path) {
+                match = match.getChildren().get(index);
+            }
+            matches.add(match);
+        }
+        return this.toResult(resultProvider, matches);
+    }
+
+    private ImmutableList<int[]> toPaths(MutableLensSet<TInventory, TStack> matches) {
+        final Map<Lens<TInventory, TStack>, int[]> paths = new IdentityHashMap<>();
+        // Matches covering all slots are reduced to the root lens itself
+        paths.put(this.lens, new int[0]);
+        this.collectPaths(this.lens, new int[0], paths);
+        final ImmutableList.Builder<int[]> result = ImmutableList.builder();
+        for (Lens<TInventory, TStack> match : matches) {
+            result.add(checkNotNull(paths.get(match), "Query match is not part of the lens tree"));
+        }
+        return result.build();
+    }
+
+    private void collectPaths(Lens<TInventory, TStack> lens, int[] path, Map<Lens<TInventory, TStack>, int[]> paths) {
+        final List<Lens<TInventory, TStack>> children = lens.getChildren();
+        for (int i = 0; i < children.size(); i++) {
+            final Lens<TInventory, TStack> child = children.get(i);
+            if (child == null || paths.containsKey(child)) {
+                continue;
+            }
+            final int[] childPath = Arrays.copyOf(path, path.length + 1);
+            childPath[path.length] = i;
+            paths.put(child, childPath);
+            this.collectPaths(child, childPath, paths);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private Inventory toResult(ResultAdapterProvider<TInventory, TStack> resultProvider, MutableLensSet<TInventory, TStack> matches) {
         if (matches.size() == 0) {
@@ -268,6 +334,18 @@ public static void setDefaultResultProvider(ResultAdapterProvider<?, ?> defaultR
         Query.defaultResultProvider = defaultResultProvider;
     }
 
+    private static final class StructuralResult {
+
+        final boolean matchesRoot;
+        final ImmutableList<int[]> matches;
+
+        StructuralResult(boolean matchesRoot, ImmutableList<int[]> matches) {
+            this.matchesRoot = matchesRoot;
+            this.matches = matches;
+        }
+
+    }
+
     private static void registerDefaultStrategies() {
         for (Type type : Query.Type.values()) {
             Query.registerStrategy(type.getKey(), type.getDefaultStrategyClass());
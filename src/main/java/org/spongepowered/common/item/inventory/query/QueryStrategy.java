@@ -32,4 +32,23 @@
     public abstract QueryStrategy<TInventory, TStack, TArgs> with(TArgs[] args);
 
     public abstract boolean matches(Lens<TInventory, TStack> lens, Lens<TInventory, TStack> parent, Fabric<TInventory> inventory);
+
+    /**
+     * Gets a key for the results of this strategy if they only depend on the
+     * structure of the lens tree, so that matches can be reused by every
+     * query against the same root lens. Strategies which look at the contents
+     * of the inventory return null.
+     *
+     * @return The structural key, or null if results can't be reused
+     */
+    public Object getStructuralKey() {
+        return null;
+    }
+
+    /**
+     * Called before each execution of a query using this strategy, to drop
+     * anything remembered about the contents of the inventory.
+     */
+    public void reset() {
+    }
 }
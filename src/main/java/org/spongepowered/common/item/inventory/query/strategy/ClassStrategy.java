@@ -55,4 +55,9 @@ public boolean matches(Lens<TInventory, TStack> lens, Lens<TInventory, TStack> p
         return false;
     }
 
+    @Override
+    public Object getStructuralKey() {
+        return this.classes;
+    }
+
 }
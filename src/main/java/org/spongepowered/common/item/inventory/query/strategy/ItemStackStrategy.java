@@ -25,6 +25,8 @@
 package org.spongepowered.common.item.inventory.query.strategy;
 
 import com.google.common.collect.ImmutableSet;
+import gnu.trove.map.TIntByteMap;
+import gnu.trove.map.hash.TIntByteHashMap;
 import org.spongepowered.api.item.inventory.ItemStack;
 import org.spongepowered.common.item.inventory.lens.Fabric;
 import org.spongepowered.common.item.inventory.lens.Lens;
@@ -36,8 +38,15 @@
 
 public class ItemStackStrategy<TInventory> extends QueryStrategy<TInventory, ItemStack, ItemStack> {
     
+    private static final byte UNKNOWN = 0;
+    private static final byte MATCH = 1;
+    private static final byte NO_MATCH = 2;
+
     private Set<ItemStack> stacks;
 
+    // Slot ordinal to match result, only valid for a single execution
+    private final TIntByteMap slotMatches = new TIntByteHashMap();
+
     @Override
     public QueryStrategy<TInventory, ItemStack, ItemStack> with(ItemStack[] types) {
         this.stacks = ImmutableSet.<ItemStack>copyOf(types);
@@ -51,18 +60,35 @@ public boolean matches(Lens<TInventory, ItemStack> lens, Lens<TInventory, ItemSt
         }
         
         if (lens instanceof SlotLens) {
-            ItemStack stack = ((SlotLens<TInventory, ItemStack>)lens).getStack(inventory);
-            if (stack == null) {
-                return false;
-            }
-            for (ItemStack candidate : this.stacks) {
-                if (ItemStackUtil.compare(stack, candidate)) {
-                    return true;
-                }
+            // The same slot is usually reachable through several lenses, only check its stack once
+            final int ordinal = ((SlotLens<TInventory, ItemStack>) lens).getOrdinal(inventory);
+            final byte known = this.slotMatches.get(ordinal);
+            if (known != UNKNOWN) {
+                return known == MATCH;
             }
+            final boolean matches = this.matchesStack(((SlotLens<TInventory, ItemStack>) lens).getStack(inventory));
+            this.slotMatches.put(ordinal, matches ? MATCH : NO_MATCH);
+            return matches;
         }
         
         return false;
     }
 
+    @Override
+    public void reset() {
+        this.slotMatches.clear();
+    }
+
+    private boolean matchesStack(ItemStack stack) {
+        if (stack == null) {
+            return false;
+        }
+        for (ItemStack candidate : this.stacks) {
+            if (ItemStackUtil.compare(stack, candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
@@ -25,6 +25,8 @@
 package org.spongepowered.common.item.inventory.query.strategy;
 
 import com.google.common.collect.ImmutableSet;
+import gnu.trove.map.TIntByteMap;
+import gnu.trove.map.hash.TIntByteHashMap;
 import org.spongepowered.api.item.ItemType;
 import org.spongepowered.api.item.inventory.ItemStack;
 import org.spongepowered.common.item.inventory.lens.Fabric;
@@ -36,8 +38,15 @@
 
 public class ItemTypeStrategy<TInventory> extends QueryStrategy<TInventory, ItemStack, ItemType> {
     
+    private static final byte UNKNOWN = 0;
+    private static final byte MATCH = 1;
+    private static final byte NO_MATCH = 2;
+
     private Set<ItemType> types;
 
+    // Slot ordinal to match result, only valid for a single execution
+    private final TIntByteMap slotMatches = new TIntByteHashMap();
+
     @Override
     public QueryStrategy<TInventory, ItemStack, ItemType> with(ItemType[] types) {
         this.types = ImmutableSet.<ItemType>copyOf(types);
@@ -51,18 +60,35 @@ public boolean matches(Lens<TInventory, ItemStack> lens, Lens<TInventory, ItemSt
         }
         
         if (lens instanceof SlotLens) {
-            ItemStack stack = ((SlotLens<TInventory, ItemStack>)lens).getStack(inventory);
-            if (stack == null) {
-                return false;
-            }
-            for (ItemType type : this.types) {
-                if (stack.getItem().equals(type)) {
-                    return true;
-                }
+            // The same slot is usually reachable through several lenses, only check its stack once
+            final int ordinal = ((SlotLens<TInventory, ItemStack>) lens).getOrdinal(inventory);
+            final byte known = this.slotMatches.get(ordinal);
+            if (known != UNKNOWN) {
+                return known == MATCH;
             }
+            final boolean matches = this.matchesStack(((SlotLens<TInventory, ItemStack>) lens).getStack(inventory));
+            this.slotMatches.put(ordinal, matches ? MATCH : NO_MATCH);
+            return matches;
         }
         
         return false;
     }
 
+    @Override
+    public void reset() {
+        this.slotMatches.clear();
+    }
+
+    private boolean matchesStack(ItemStack stack) {
+        if (stack == null) {
+            return false;
+        }
+        for (ItemType type : this.types) {
+            if (stack.getItem().equals(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
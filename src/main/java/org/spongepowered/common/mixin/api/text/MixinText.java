@@ -25,6 +25,7 @@
 package org.spongepowered.common.mixin.api.text;
 
 import com.google.common.collect.ImmutableList;
+import net.minecraft.network.play.server.S02PacketChat;
 import net.minecraft.util.ChatComponentStyle;
 import net.minecraft.util.ChatStyle;
 import net.minecraft.util.IChatComponent;
@@ -32,15 +33,20 @@
 import org.spongepowered.api.text.action.ClickAction;
 import org.spongepowered.api.text.action.HoverAction;
 import org.spongepowered.api.text.action.ShiftClickAction;
+import org.spongepowered.api.text.chat.ChatType;
+import org.spongepowered.api.text.chat.ChatTypes;
 import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.api.text.format.TextFormat;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.common.interfaces.network.IMixinSharedPacket;
 import org.spongepowered.common.interfaces.text.IMixinChatComponent;
 import org.spongepowered.common.interfaces.text.IMixinText;
+import org.spongepowered.common.text.SpongeTexts;
 import org.spongepowered.common.text.action.SpongeClickAction;
 import org.spongepowered.common.text.action.SpongeHoverAction;
+import org.spongepowered.common.text.chat.SpongeChatType;
 import org.spongepowered.common.text.format.SpongeTextColor;
 
 import java.util.Optional;
@@ -56,6 +62,8 @@ public abstract class MixinText implements IMixinText {
 
     private IChatComponent component;
     private String json;
+    // Shared by every player this text is sent to, indexed by chat type id
+    private final S02PacketChat[] chatPackets = new S02PacketChat[3];
 
     protected ChatComponentStyle createComponent() {
         throw new UnsupportedOperationException();
@@ -107,6 +115,29 @@ public IChatComponent toComponent() {
         return getHandle().createCopy(); // Mutable instances are not nice :(
     }
 
+    @Override
+    public S02PacketChat toChatPacket(ChatType type) {
+        final byte id = ((SpongeChatType) type).getByteId();
+        if (id < 0 || id >= this.chatPackets.length) {
+            return createChatPacket(type, id);
+        }
+        S02PacketChat packet = this.chatPackets[id];
+        if (packet == null) {
+            packet = this.chatPackets[id] = createChatPacket(type, id);
+        }
+        return packet;
+    }
+
+    private S02PacketChat createChatPacket(ChatType type, byte id) {
+        IChatComponent component = toComponent();
+        if (type == ChatTypes.ACTION_BAR) {
+            component = SpongeTexts.fixActionBarFormatting(component);
+        }
+        final S02PacketChat packet = new S02PacketChat(component, id);
+        ((IMixinSharedPacket) packet).setShared();
+        return packet;
+    }
+
     @Override
     public String toPlain() {
         return ((IMixinChatComponent) getHandle()).toPlain();
@@ -32,6 +32,7 @@
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.common.interfaces.network.IMixinSharedPacket;
 import org.spongepowered.common.interfaces.text.IMixinText;
 import org.spongepowered.common.interfaces.text.IMixinTitle;
 
@@ -78,6 +79,9 @@ private List<S45PacketTitle> getPackets() {
             if (this.title.isPresent()) {
                 this.packets.add(new S45PacketTitle(S45PacketTitle.Type.TITLE, ((IMixinText) this.title.get()).toComponent()));
             }
+            for (S45PacketTitle packet : this.packets) {
+                ((IMixinSharedPacket) packet).setShared();
+            }
         }
         return this.packets;
     }
@@ -61,6 +61,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.event.CauseTracker;
 import org.spongepowered.common.interfaces.block.IMixinBlock;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
@@ -142,7 +143,7 @@ public void setTickRandomly(boolean tickRandomly) {
 
     @Inject(method = "randomTick", at = @At(value = "HEAD"), locals = LocalCapture.CAPTURE_FAILEXCEPTION, cancellable = true)
     public void callRandomTickEvent(net.minecraft.world.World world, BlockPos pos, IBlockState state, Random rand, CallbackInfo ci) {
-        if (world.isRemote) {
+        if (world.isRemote || !SpongeImpl.hasListeners(TickBlockEvent.class)) {
             return;
         }
 
@@ -214,6 +215,8 @@ private static boolean onSpawnAsEntity(net.minecraft.world.World worldIn, Entity
         BlockSnapshot blockSnapshot = null;
         if (causeTracker.getCapturedSpongeBlockSnapshots().size() > 0) {
             blockSnapshot = causeTracker.getCapturedSpongeBlockSnapshots().get(causeTracker.getCapturedSpongeBlockSnapshots().size() - 1);
+            // The snapshot becomes part of the spawn cause of the drop
+            ((SpongeBlockSnapshot) blockSnapshot).resolveTileData();
         }
         if (blockSnapshot == null) {
             blockSnapshot = BlockSnapshot.builder().from(new Location<>((World) worldIn, VecHelper.toVector(entityitem.getPosition()))).build();
@@ -24,7 +24,6 @@
  */
 package org.spongepowered.common.mixin.core.block.state;
 
-import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableMap;
 import net.minecraft.block.properties.IProperty;
 import net.minecraft.block.state.IBlockState;
@@ -49,9 +48,9 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.common.data.util.DataQueries;
 import org.spongepowered.common.data.util.DataVersions;
+import org.spongepowered.common.util.BlockUtil;
 import org.spongepowered.common.util.VecHelper;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -83,12 +82,7 @@ default BlockState cycleValue(Key<? extends BaseValue<? extends Cycleable<?>>> k
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
     default <T extends Comparable<T>> Optional<T> getTraitValue(BlockTrait<T> blockTrait) {
-        for (Map.Entry<IProperty, Comparable> entry : getProperties().entrySet()) {
-            if (entry.getKey() == blockTrait) {
-                return Optional.of((T) entry.getValue());
-            }
-        }
-        return Optional.empty();
+        return Optional.ofNullable((T) getProperties().get(blockTrait));
     }
 
     @SuppressWarnings("rawtypes")
@@ -144,20 +138,7 @@ default Collection<?> getTraitValues() {
     @SuppressWarnings("unchecked")
     @Override
     default String getId() {
-        StringBuilder builder = new StringBuilder();
-        builder.append(((BlockType) getBlock()).getId());
-        final ImmutableMap<IProperty<?>, Comparable<?>> properties = (ImmutableMap<IProperty<?>, Comparable<?>>) (ImmutableMap<?, ?>) this.getProperties();
-        if (!properties.isEmpty()) {
-            builder.append('[');
-            Joiner joiner = Joiner.on(',');
-            List<String> propertyValues = new ArrayList<>();
-            for (Map.Entry<IProperty<?>, Comparable<?>> entry : properties.entrySet()) {
-                propertyValues.add(entry.getKey().getName() + "=" + entry.getValue());
-            }
-            builder.append(joiner.join(propertyValues));
-            builder.append(']');
-        }
-        return builder.toString();
+        return BlockUtil.createStateId((BlockType) getBlock(), (ImmutableMap<IProperty<?>, Comparable<?>>) (ImmutableMap<?, ?>) this.getProperties());
     }
 
     @Override
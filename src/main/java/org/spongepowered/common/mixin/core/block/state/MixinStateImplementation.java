@@ -26,7 +26,6 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -34,6 +33,7 @@
 import net.minecraft.block.properties.IProperty;
 import net.minecraft.block.state.BlockStateBase;
 import net.minecraft.nbt.NBTTagCompound;
+import org.spongepowered.api.CatalogType;
 import org.spongepowered.api.block.BlockSnapshot;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.block.BlockType;
@@ -64,14 +64,17 @@
 import org.spongepowered.common.data.util.DataVersions;
 import org.spongepowered.common.interfaces.block.IMixinBlock;
 import org.spongepowered.common.interfaces.block.IMixinBlockState;
+import org.spongepowered.common.util.BlockUtil;
 import org.spongepowered.common.util.VecHelper;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
@@ -92,14 +95,31 @@ public abstract class MixinStateImplementation extends BlockStateBase implements
     private ImmutableMap<Key<?>, Object> keyMap;
 
     private String id;
+    private ImmutableMap<String, BlockTrait<?>> traitsByName;
+
+    // Results of with(Key, value) and cycleValue, filled in as they are requested
+    @Nullable private volatile Map<Key<?>, Map<Object, Optional<BlockState>>> keyTransitions;
+    @Nullable private volatile Map<Key<?>, BlockState> cycleTransitions;
 
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
     public BlockState cycleValue(Key<? extends BaseValue<? extends Cycleable<?>>> key) {
+        Map<Key<?>, BlockState> transitions = this.cycleTransitions;
+        if (transitions != null) {
+            final BlockState cached = transitions.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
         if (supports(key)) {
             final Cycleable value = (Cycleable) get((Key) key).get();
             final Cycleable next = value.cycleNext();
-            return with((Key<? extends BaseValue<Object>>) (Key<?>) key, next).get();
+            final BlockState state = with((Key<? extends BaseValue<Object>>) (Key<?>) key, next).get();
+            if (transitions == null) {
+                this.cycleTransitions = transitions = new ConcurrentHashMap<>();
+            }
+            transitions.put(key, state);
+            return state;
         }
         throw new IllegalArgumentException("Used an invalid cyclable key! Check with supports in the future!");
     }
@@ -171,10 +191,32 @@ public <E> Optional<BlockState> transform(Key<? extends BaseValue<E>> key, Funct
 
     @Override
     public <E> Optional<BlockState> with(Key<? extends BaseValue<E>> key, E value) {
-        if (!supports(key)) {
-            return Optional.empty();
+        // Only immutable values are safe to keep as keys of the transition table
+        final boolean cacheable = value instanceof Enum || value instanceof Boolean || value instanceof Number || value instanceof CatalogType;
+        Map<Key<?>, Map<Object, Optional<BlockState>>> transitions = this.keyTransitions;
+        Map<Object, Optional<BlockState>> valueTransitions = null;
+        if (cacheable && transitions != null) {
+            valueTransitions = transitions.get(key);
+            if (valueTransitions != null) {
+                final Optional<BlockState> cached = valueTransitions.get(value);
+                if (cached != null) {
+                    return cached;
+                }
+            }
         }
-        return ((IMixinBlock) this.block).getStateWithValue(this, key, value);
+        final Optional<BlockState> state = supports(key) ? ((IMixinBlock) this.block).getStateWithValue(this, key, value) : Optional.empty();
+        // Only values a state of this block actually holds are kept, so the table is bounded by the allowed values of the
+        // block's traits. Invalid or clamped values are looked up again every time.
+        if (cacheable && state.isPresent() && value.equals(state.get().get(key).orElse(null))) {
+            if (transitions == null) {
+                this.keyTransitions = transitions = new ConcurrentHashMap<>();
+            }
+            if (valueTransitions == null) {
+                valueTransitions = transitions.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+            }
+            valueTransitions.put(value, state);
+        }
+        return state;
     }
 
     @SuppressWarnings("unchecked")
@@ -340,19 +382,29 @@ public int getStateMeta() {
 
     @Override
     public void generateId(Block block) {
-        StringBuilder builder = new StringBuilder();
-        builder.append(((BlockType) block).getId());
-        if (!this.properties.isEmpty()) {
-            builder.append('[');
-            Joiner joiner = Joiner.on(',');
-            List<String> propertyValues = new ArrayList<>();
-            for (Map.Entry<IProperty<?>, Comparable<?>> entry : this.properties.entrySet()) {
-                propertyValues.add(entry.getKey().getName() + "=" + entry.getValue());
+        this.id = BlockUtil.createStateId((BlockType) block, this.properties).intern();
+        final Map<String, BlockTrait<?>> traits = new HashMap<>();
+        for (IProperty<?> property : this.properties.keySet()) {
+            traits.putIfAbsent(property.getName().toLowerCase(Locale.ENGLISH), (BlockTrait<?>) property);
+        }
+        this.traitsByName = ImmutableMap.copyOf(traits);
+    }
+
+    @Override
+    public Optional<BlockTrait<?>> getTrait(String blockTrait) {
+        if (this.traitsByName == null) {
+            for (IProperty<?> property : this.properties.keySet()) {
+                if (property.getName().equalsIgnoreCase(blockTrait)) {
+                    return Optional.of((BlockTrait<?>) property);
+                }
             }
-            builder.append(joiner.join(propertyValues));
-            builder.append(']');
+            return Optional.empty();
+        }
+        BlockTrait<?> trait = this.traitsByName.get(blockTrait);
+        if (trait == null) {
+            trait = this.traitsByName.get(blockTrait.toLowerCase(Locale.ENGLISH));
         }
-        this.id = builder.toString();
+        return Optional.ofNullable(trait);
     }
 
     @Override
@@ -49,6 +49,7 @@
 import org.spongepowered.common.data.SpongeDataManager;
 import org.spongepowered.common.data.ValueProcessor;
 import org.spongepowered.common.entity.player.SpongeUser;
+import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
 import org.spongepowered.common.interfaces.data.IMixinCustomDataHolder;
 
 import java.util.Collection;
@@ -60,6 +61,13 @@
 @Mixin(value = {TileEntity.class, Entity.class, ItemStack.class, SpongeUser.class}, priority = 999)
 public abstract class MixinDataHolder implements DataHolder {
 
+    private void materializeTileSnapshots() {
+        if (this instanceof IMixinTileEntity) {
+            // Data processors change tile entities without marking them dirty, pending block snapshots must not see the change
+            ((IMixinTileEntity) this).materializeSnapshotData();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T extends DataManipulator<?, ?>> Optional<T> get(Class<T> containerClass) {
@@ -157,6 +165,7 @@ public boolean supports(Class<? extends DataManipulator<?, ?>> holderClass) {
     public <E> DataTransactionResult offer(Key<? extends BaseValue<E>> key, E value) {
         TimingsManager.DATA_GROUP_HANDLER.startTimingIfSync();
         SpongeTimings.dataOfferKey.startTimingIfSync();
+        this.materializeTileSnapshots();
         final Optional<ValueProcessor<E, ? extends BaseValue<E>>> optional = SpongeDataManager.getInstance().getBaseValueProcessor(key);
         if (optional.isPresent()) {
             final DataTransactionResult result = optional.get().offerToStore(this, value);
@@ -179,6 +188,7 @@ public <E> DataTransactionResult offer(Key<? extends BaseValue<E>> key, E value)
     public DataTransactionResult offer(DataManipulator<?, ?> valueContainer, MergeFunction function) {
         TimingsManager.DATA_GROUP_HANDLER.startTimingIfSync();
         SpongeTimings.dataOfferManipulator.startTimingIfSync();
+        this.materializeTileSnapshots();
         final Optional<DataProcessor> optional = SpongeDataManager.getInstance().getWildDataProcessor(valueContainer.getClass());
         if (optional.isPresent()) {
             final DataTransactionResult result = optional.get().set(this, valueContainer, checkNotNull(function));
@@ -235,6 +245,7 @@ public DataTransactionResult offer(Iterable<DataManipulator<?, ?>> valueContaine
     public DataTransactionResult remove(Class<? extends DataManipulator<?, ?>> containerClass) {
         TimingsManager.DATA_GROUP_HANDLER.startTimingIfSync();
         SpongeTimings.dataRemoveManipulator.startTimingIfSync();
+        this.materializeTileSnapshots();
         final Optional<DataProcessor<?, ?>> optional = SpongeDataManager.getInstance().getWildProcessor(containerClass);
         if (optional.isPresent()) {
             final DataTransactionResult result = optional.get().remove(this);
@@ -257,6 +268,7 @@ public DataTransactionResult remove(Class<? extends DataManipulator<?, ?>> conta
     public DataTransactionResult remove(Key<?> key) {
         TimingsManager.DATA_GROUP_HANDLER.startTimingIfSync();
         SpongeTimings.dataRemoveKey.startTimingIfSync();
+        this.materializeTileSnapshots();
         final Optional<ValueProcessor<?, ?>> optional = SpongeDataManager.getInstance().getWildValueProcessor(checkNotNull(key));
         if (optional.isPresent()) {
             final DataTransactionResult result = optional.get().removeFrom(this);
@@ -102,6 +102,9 @@ public void onConstruct(CallbackInfo ci) {
     @Override
     public void firePostConstructEvents() {
         super.firePostConstructEvents();
+        if (!SpongeImpl.hasListeners(AITaskEvent.Add.class)) {
+            return;
+        }
         handleDelayedTaskEventFiring((IMixinEntityAITasks) this.tasks);
         handleDelayedTaskEventFiring((IMixinEntityAITasks) this.targetTasks);
     }
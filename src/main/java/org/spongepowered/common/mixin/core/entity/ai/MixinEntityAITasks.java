@@ -150,6 +150,9 @@ private boolean onAddEntityTask(List<EntityAITasks.EntityAITaskEntry> list, Obje
             // Event is fired in firePostConstructEvents
             return list.add(((EntityAITasks) (Object) this).new EntityAITaskEntry(priority, base));
         }
+        if (!SpongeImpl.hasListeners(AITaskEvent.Add.class)) {
+            return list.add(((EntityAITasks) (Object) this).new EntityAITaskEntry(priority, base));
+        }
         final AITaskEvent.Add event = SpongeEventFactory.createAITaskEventAdd(Cause.source(Sponge.getGame()).build(), priority, priority,
                 (Goal<?>) this, (Agent) this.owner, (AITask<?>) base);
         SpongeImpl.postEvent(event);
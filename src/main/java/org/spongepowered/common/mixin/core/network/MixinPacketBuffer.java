@@ -29,6 +29,7 @@
 
 import com.google.common.base.Charsets;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
 import io.netty.handler.codec.DecoderException;
 import io.netty.handler.codec.EncoderException;
 import net.minecraft.nbt.NBTTagCompound;
@@ -41,6 +42,7 @@
 import org.spongepowered.asm.mixin.Intrinsic;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.common.data.persistence.NbtStreamTranslator;
 import org.spongepowered.common.data.persistence.NbtTranslator;
 
 import java.io.IOException;
@@ -54,7 +56,6 @@ public abstract class MixinPacketBuffer extends ByteBuf {
     @Shadow @Final private ByteBuf buf;
 
     @Shadow protected abstract NBTTagCompound readNBTTagCompoundFromBuffer() throws IOException;
-    @Shadow protected abstract void writeNBTTagCompoundToBuffer(NBTTagCompound compound);
     @Shadow public abstract int readVarIntFromBuffer();
     @Shadow public abstract void writeVarIntToBuffer(int input);
     @Shadow public abstract String readStringFromBuffer(int maxLength);
@@ -485,8 +486,13 @@ public abstract class MixinPacketBuffer extends ByteBuf {
     }
 
     public ChannelBuf cbuf$writeDataView(DataView data) {
-        NBTTagCompound compound = NbtTranslator.getInstance().translateData(checkNotNull(data, "data"));
-        this.writeNBTTagCompoundToBuffer(compound);
+        checkNotNull(data, "data");
+        // Written the same way as writeNBTTagCompoundToBuffer, without building the compound first
+        try {
+            NbtStreamTranslator.write(data, new ByteBufOutputStream(this.buf));
+        } catch (IOException e) {
+            throw new EncoderException(e);
+        }
         return (ChannelBuf) this;
     }
 
@@ -501,6 +507,7 @@ public abstract class MixinPacketBuffer extends ByteBuf {
 
     public DataView cbuf$readDataView() {
         try {
+            // Read through the vanilla reader, which limits the size of untrusted input
             NBTTagCompound compound = this.readNBTTagCompoundFromBuffer();
             return NbtTranslator.getInstance().translateFrom(compound);
         } catch (IOException e) {
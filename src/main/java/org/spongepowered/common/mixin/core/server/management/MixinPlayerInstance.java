@@ -25,15 +25,35 @@
 package org.spongepowered.common.mixin.core.server.management;
 
 import net.minecraft.server.management.PlayerManager.PlayerInstance;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.gen.ChunkProviderServer;
+import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 
 @Mixin(PlayerInstance.class)
 public class MixinPlayerInstance {
 
+    @Shadow @Final private ChunkCoordIntPair chunkCoords;
+
+    @Redirect(method = "addPlayer", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/WorldServer;getTotalWorldTime()J"))
+    public long onFirstPlayerWatching(WorldServer worldServer) {
+        // Only called when the first player starts watching the chunk, mark it as in use for the chunk gc
+        Chunk chunk = ((IMixinChunkProviderServer) worldServer.getChunkProvider()).getChunkIfLoaded(this.chunkCoords.chunkXPos,
+                this.chunkCoords.chunkZPos);
+        if (chunk != null) {
+            ((IMixinChunk) chunk).setLastWatchedTick(Long.MAX_VALUE);
+        }
+        return worldServer.getTotalWorldTime();
+    }
+
     @Redirect(method = "removePlayer", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/gen/ChunkProviderServer;dropChunk(II)V"))
     public void onPlayerDropChunk(ChunkProviderServer chunkProviderServer, int chunkX, int chunkZ) {
         // We remove the ability for a PlayerInstance to queue chunks for unload to prevent chunk thrashing
@@ -43,6 +63,11 @@ public void onPlayerDropChunk(ChunkProviderServer chunkProviderServer, int chunk
         // and queue the chunk to be unloaded.
         // -- blood
 
+        Chunk chunk = ((IMixinChunkProviderServer) chunkProviderServer).getChunkIfLoaded(chunkX, chunkZ);
+        if (chunk != null) {
+            ((IMixinChunk) chunk).setLastWatchedTick(chunkProviderServer.worldObj.getTotalWorldTime());
+        }
+
         if (((IMixinWorldServer) chunkProviderServer.worldObj).getChunkGCTickInterval() <= 0) {
             chunkProviderServer.dropChunk(chunkX, chunkZ);
         }
@@ -53,6 +53,7 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.block.LazyTileEntityData;
 import org.spongepowered.common.data.persistence.NbtTranslator;
 import org.spongepowered.common.data.type.SpongeTileEntityType;
 import org.spongepowered.common.data.util.DataQueries;
@@ -69,6 +70,8 @@
 import java.util.Collection;
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 @NonnullByDefault
 @Mixin(net.minecraft.tileentity.TileEntity.class)
 @Implements(@Interface(iface = IMixinTileEntity.class, prefix = "tile$"))
@@ -78,6 +81,8 @@ public abstract class MixinTileEntity implements TileEntity, IMixinTileEntity {
     // uses different name to not clash with SpongeForge
     private final boolean isTileVanilla = getClass().getName().startsWith("net.minecraft.");
     private Timing timing;
+    // Data shared by snapshots taken since the last change to this tile entity
+    @Nullable private LazyTileEntityData snapshotData;
 
     @Shadow protected boolean tileEntityInvalid;
     @Shadow protected net.minecraft.world.World worldObj;
@@ -96,6 +101,7 @@ public abstract class MixinTileEntity implements TileEntity, IMixinTileEntity {
 
     @Inject(method = "markDirty", at = @At(value = "HEAD"))
     public void onMarkDirty(CallbackInfo ci) {
+        materializeSnapshotData();
         if (this.worldObj != null && !this.worldObj.isRemote) {
             IMixinWorld world = (IMixinWorld) this.worldObj;
             // This handles transfers to this TE from a source such as a Hopper
@@ -109,6 +115,30 @@ public void onMarkDirty(CallbackInfo ci) {
         }
     }
 
+    @Override
+    public LazyTileEntityData getSnapshotData() {
+        if (this.snapshotData == null || this.snapshotData.isMaterialized()) {
+            this.snapshotData = new LazyTileEntityData((net.minecraft.tileentity.TileEntity) (Object) this);
+        }
+        this.snapshotData.retain();
+        return this.snapshotData;
+    }
+
+    @Override
+    public void materializeSnapshotData() {
+        if (this.snapshotData != null) {
+            this.snapshotData.materialize();
+            this.snapshotData = null;
+        }
+    }
+
+    @Override
+    public void discardSnapshotData(LazyTileEntityData snapshotData) {
+        if (this.snapshotData == snapshotData) {
+            this.snapshotData = null;
+        }
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Inject(method = "addMapping(Ljava/lang/Class;Ljava/lang/String;)V", at = @At(value = "RETURN"))
     private static void onRegister(Class clazz, String name, CallbackInfo callbackInfo) {
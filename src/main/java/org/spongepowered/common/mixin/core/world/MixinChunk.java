@@ -31,8 +31,9 @@
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.base.Predicate;
-import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import gnu.trove.set.TIntSet;
+import gnu.trove.set.hash.TIntHashSet;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
@@ -59,8 +60,10 @@
 import org.spongepowered.api.entity.EntitySnapshot;
 import org.spongepowered.api.entity.EntityType;
 import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.entity.CollideEntityEvent;
+import org.spongepowered.api.event.entity.SpawnEntityEvent;
 import org.spongepowered.api.item.inventory.ItemStack;
 import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.service.user.UserStorageService;
@@ -83,13 +86,18 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.entity.PlayerTrackerStore;
 import org.spongepowered.common.event.CauseTracker;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.interfaces.IMixinChunk;
+import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
+import org.spongepowered.common.interfaces.server.management.IMixinPlayerManager;
 import org.spongepowered.common.interfaces.world.IMixinWorld;
 import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+import org.spongepowered.common.service.user.SpongeUserStorageService;
 import org.spongepowered.common.util.SpongeHooks;
+import org.spongepowered.common.util.StaticMixinHelper;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.extent.ExtentViewDownsize;
 import org.spongepowered.common.world.extent.ExtentViewTransform;
@@ -111,22 +119,19 @@
 @Mixin(net.minecraft.world.chunk.Chunk.class)
 public abstract class MixinChunk implements Chunk, IMixinChunk {
 
-    public Map<Integer, PlayerTracker> trackedIntBlockPositions = Maps.newHashMap();
-    public Map<Short, PlayerTracker> trackedShortBlockPositions = Maps.newHashMap();
+    private PlayerTrackerStore trackedBlockPositions = new PlayerTrackerStore();
     private Cause populateCause;
     private org.spongepowered.api.world.World world;
     private UUID uuid;
     private Chunk[] neighbors = new Chunk[4];
+    private long lastWatchedTick;
     private static final Direction[] CARDINAL_DIRECTIONS = new Direction[] {Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST};
 
     private static final int NUM_XZ_BITS = 4;
-    private static final int NUM_SHORT_Y_BITS = 8;
     private static final int NUM_INT_Y_BITS = 24;
     private static final int Y_SHIFT = NUM_XZ_BITS;
-    private static final int Z_SHORT_SHIFT = Y_SHIFT + NUM_SHORT_Y_BITS;
     private static final int Z_INT_SHIFT = Y_SHIFT + NUM_INT_Y_BITS;
     private static final short XZ_MASK = 0xF;
-    private static final short Y_SHORT_MASK = 0xFF;
     private static final int Y_INT_MASK = 0xFFFFFF;
 
     private static final Vector2i BIOME_SIZE = SpongeChunkLayout.CHUNK_SIZE.toVector2(true);
@@ -181,6 +186,11 @@ public void onConstructed(World world, int x, int z, CallbackInfo ci) {
     public void onChunkLoadInject(CallbackInfo ci) {
         if (!this.worldObj.isRemote) {
             SpongeHooks.logChunkLoad(this.worldObj, this.chunkPos);
+            // Players may still be watching a chunk that was unloaded elsewhere and loaded again
+            if (((IMixinPlayerManager) ((WorldServer) this.worldObj).getPlayerManager()).isChunkInUse(this.xPosition, this.zPosition)) {
+                this.lastWatchedTick = Long.MAX_VALUE;
+            }
+            prefetchTrackedUsers();
         }
 
         Direction[] directions = {Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST};
@@ -411,12 +421,13 @@ public MutableBlockVolumeWorker<? extends Chunk> getBlockWorker() {
     @Inject(method = "getEntitiesWithinAABBForEntity", at = @At(value = "RETURN"))
     public void onGetEntitiesWithinAABBForEntity(Entity entityIn, AxisAlignedBB aabb, List<Entity> listToFill, Predicate<Entity> p_177414_4_,
             CallbackInfo ci) {
-        final CauseTracker causeTracker = ((IMixinWorld) this.worldObj).getCauseTracker();
-        if (this.worldObj.isRemote || causeTracker.getCurrentCause() == null || causeTracker.isIgnoringCaptures()) {
+        if (this.worldObj.isRemote || listToFill.size() == 0 || StaticMixinHelper.collideEntityQueryDepth > 0
+                || !SpongeImpl.hasListeners(CollideEntityEvent.class)) {
             return;
         }
 
-        if (listToFill.size() == 0) {
+        final CauseTracker causeTracker = ((IMixinWorld) this.worldObj).getCauseTracker();
+        if (!causeTracker.hasCurrentCause() || causeTracker.isIgnoringCaptures()) {
             return;
         }
 
@@ -434,12 +445,13 @@ public void onGetEntitiesWithinAABBForEntity(Entity entityIn, AxisAlignedBB aabb
     @Inject(method = "getEntitiesOfTypeWithinAAAB", at = @At(value = "RETURN"))
     public void onGetEntitiesOfTypeWithinAAAB(Class<? extends Entity> entityClass, AxisAlignedBB aabb, List listToFill, Predicate<Entity> p_177430_4_,
             CallbackInfo ci) {
-        final CauseTracker causeTracker = ((IMixinWorld) this.worldObj).getCauseTracker();
-        if (this.worldObj.isRemote || causeTracker.getCurrentCause() == null || causeTracker.isIgnoringCaptures()) {
+        if (this.worldObj.isRemote || listToFill.size() == 0 || StaticMixinHelper.collideEntityQueryDepth > 0
+                || !SpongeImpl.hasListeners(CollideEntityEvent.class)) {
             return;
         }
 
-        if (listToFill.size() == 0) {
+        final CauseTracker causeTracker = ((IMixinWorld) this.worldObj).getCauseTracker();
+        if (!causeTracker.hasCurrentCause() || causeTracker.isIgnoringCaptures()) {
             return;
         }
 
@@ -518,6 +530,16 @@ public IBlockState setBlockState(BlockPos pos, IBlockState newState, IBlockState
                     if (!causeTracker.isCapturingBlocks()) {
                         block1.breakBlock(this.worldObj, pos, currentState);
                     } else {
+                        if (SpongeImplHooks.blockHasTileEntity(block1, currentState) && (SpongeImpl.hasListeners(ChangeBlockEvent.class)
+                                || SpongeImpl.hasListeners(SpawnEntityEvent.class))) {
+                            // The replaced tile entity is detached and kept as it is for pending snapshots, but breaking the
+                            // block may still change it, such as a chest dropping its contents. Read it first if a listener
+                            // could see the snapshot.
+                            TileEntity te = this.getTileEntity(pos, EnumCreateEntityType.CHECK);
+                            if (te != null) {
+                                ((IMixinTileEntity) te).materializeSnapshotData();
+                            }
+                        }
                         // Make sure to capture spawned items during block breaks so we can handle them properly after events
                         int preEntitySize = causeTracker.getCapturedSpawnedEntities().size();
                         int preEntityItemSize = causeTracker.getCapturedSpawnedEntityItems().size();
@@ -608,169 +630,70 @@ public void addTrackedBlockPosition(Block block, BlockPos pos, User user, Player
             SpongeHooks.logBlockTrack(this.worldObj, block, pos, user, false);
         }
 
-        if (pos.getY() <= 255) {
-            short blockPos = blockPosToShort(pos);
-            if (this.trackedShortBlockPositions.get(blockPos) != null) {
-                if (trackerType == PlayerTracker.Type.OWNER) {
-                    this.trackedShortBlockPositions.get(blockPos).ownerIndex =
-                            ((IMixinWorldInfo) this.worldObj.getWorldInfo()).getIndexForUniqueId(user.getUniqueId());
-                    this.trackedShortBlockPositions.get(blockPos).notifierIndex =
-                            ((IMixinWorldInfo) this.worldObj.getWorldInfo()).getIndexForUniqueId(user.getUniqueId());
-                } else {
-                    this.trackedShortBlockPositions.get(blockPos).notifierIndex =
-                            ((IMixinWorldInfo) this.worldObj.getWorldInfo()).getIndexForUniqueId(user.getUniqueId());
-                }
+        final int blockPos = blockPosToInt(pos);
+        final int index = ((IMixinWorldInfo) this.worldObj.getWorldInfo()).getIndexForUniqueId(user.getUniqueId());
+        if (this.trackedBlockPositions.contains(blockPos)) {
+            if (trackerType == PlayerTracker.Type.OWNER) {
+                this.trackedBlockPositions.set(blockPos, index, index);
             } else {
-                this.trackedShortBlockPositions.put(blockPos,
-                        new PlayerTracker(((IMixinWorldInfo) this.worldObj.getWorldInfo()).getIndexForUniqueId(user.getUniqueId()), trackerType));
+                this.trackedBlockPositions.setNotifierIndex(blockPos, index);
             }
+        } else if (trackerType == PlayerTracker.Type.OWNER) {
+            this.trackedBlockPositions.set(blockPos, index, -1);
         } else {
-            int blockPos = blockPosToInt(pos);
-            if (this.trackedIntBlockPositions.get(blockPos) != null) {
-                if (trackerType == PlayerTracker.Type.OWNER) {
-                    this.trackedIntBlockPositions.get(blockPos).ownerIndex =
-                            ((IMixinWorldInfo) this.worldObj.getWorldInfo()).getIndexForUniqueId(user.getUniqueId());
-                } else {
-                    this.trackedIntBlockPositions.get(blockPos).notifierIndex =
-                            ((IMixinWorldInfo) this.worldObj.getWorldInfo()).getIndexForUniqueId(user.getUniqueId());
-                }
-            } else {
-                this.trackedIntBlockPositions.put(blockPos,
-                        new PlayerTracker(((IMixinWorldInfo) this.worldObj.getWorldInfo()).getIndexForUniqueId(user.getUniqueId()), trackerType));
-            }
+            this.trackedBlockPositions.set(blockPos, -1, index);
         }
     }
 
     @Override
-    public Map<Integer, PlayerTracker> getTrackedIntPlayerPositions() {
-        return this.trackedIntBlockPositions;
-    }
-
-    @Override
-    public Map<Short, PlayerTracker> getTrackedShortPlayerPositions() {
-        return this.trackedShortBlockPositions;
+    public PlayerTrackerStore getTrackedPlayerPositions() {
+        return this.trackedBlockPositions;
     }
 
     @Override
     public Optional<User> getBlockOwner(BlockPos pos) {
-        if (this.trackedIntBlockPositions.get(blockPosToInt(pos)) != null) {
-            PlayerTracker tracker = this.trackedIntBlockPositions.get(blockPosToInt(pos));
-            Optional<UUID> uuid = (((IMixinWorldInfo) this.worldObj.getWorldInfo()).getUniqueIdForIndex(tracker.ownerIndex));
-            if (uuid.isPresent()) {
-                // get player if online
-                EntityPlayer player = this.worldObj.getPlayerEntityByUUID(uuid.get());
-                if (player != null) {
-                    return Optional.of((User) player);
-                }
-                // player is not online, get or create user from storage
-                return Optional.of(this.userForUUID(uuid.get()));
-            }
-        } else if (this.trackedShortBlockPositions.get(blockPosToShort(pos)) != null) {
-            PlayerTracker tracker = this.trackedShortBlockPositions.get(blockPosToShort(pos));
-            Optional<UUID> uuid = (((IMixinWorldInfo) this.worldObj.getWorldInfo()).getUniqueIdForIndex(tracker.ownerIndex));
-            if (uuid.isPresent()) {
-                // get player if online
-                EntityPlayer player = this.worldObj.getPlayerEntityByUUID(uuid.get());
-                if (player != null) {
-                    return Optional.of((User) player);
-                }
-                // player is not online, get or create user from storage
-                return Optional.of(this.userForUUID(uuid.get()));
-            }
-        }
-
-        return Optional.empty();
+        return this.userForIndex(this.trackedBlockPositions.getOwnerIndex(blockPosToInt(pos)));
     }
 
     @Override
     public Optional<User> getBlockNotifier(BlockPos pos) {
-        if (this.trackedIntBlockPositions.get(blockPosToInt(pos)) != null) {
-            PlayerTracker tracker = this.trackedIntBlockPositions.get(blockPosToInt(pos));
-            Optional<UUID> uuid = (((IMixinWorldInfo) this.worldObj.getWorldInfo()).getUniqueIdForIndex(tracker.notifierIndex));
-            if (uuid.isPresent()) {
-                // get player if online
-                EntityPlayer player = this.worldObj.getPlayerEntityByUUID(uuid.get());
-                if (player != null) {
-                    return Optional.of((User) player);
-                }
-                // player is not online, get or create user from storage
-                return Optional.of(this.userForUUID(uuid.get()));
-            }
-        } else if (this.trackedShortBlockPositions.get(blockPosToShort(pos)) != null) {
-            PlayerTracker tracker = this.trackedShortBlockPositions.get(blockPosToShort(pos));
-            Optional<UUID> uuid = (((IMixinWorldInfo) this.worldObj.getWorldInfo()).getUniqueIdForIndex(tracker.notifierIndex));
-            if (uuid.isPresent()) {
-                // get player if online
-                EntityPlayer player = this.worldObj.getPlayerEntityByUUID(uuid.get());
-                if (player != null) {
-                    return Optional.of((User) player);
-                }
-                // player is not online, get or create user from storage
-                return Optional.of(this.userForUUID(uuid.get()));
-            }
-        }
-
-        return Optional.empty();
+        return this.userForIndex(this.trackedBlockPositions.getNotifierIndex(blockPosToInt(pos)));
     }
 
-    // Special setter used by API
-    @Override
-    public void setBlockNotifier(BlockPos pos, UUID uuid) {
-        if (pos.getY() <= 255) {
-            short blockPos = blockPosToShort(pos);
-            if (this.trackedShortBlockPositions.get(blockPos) != null) {
-                this.trackedShortBlockPositions.get(blockPos).notifierIndex = uuid == null ? -1 :
-                        ((IMixinWorldInfo) this.worldObj.getWorldInfo()).getIndexForUniqueId(uuid);
-            } else {
-                this.trackedShortBlockPositions.put(blockPos,
-                        new PlayerTracker(uuid == null ? -1 : ((IMixinWorldInfo) this.worldObj.getWorldInfo()).getIndexForUniqueId(uuid),
-                                PlayerTracker.Type.NOTIFIER));
-            }
-        } else {
-            int blockPos = blockPosToInt(pos);
-            if (this.trackedIntBlockPositions.get(blockPos) != null) {
-                this.trackedIntBlockPositions.get(blockPos).notifierIndex = uuid == null ? -1 :
-                        ((IMixinWorldInfo) this.worldObj.getWorldInfo()).getIndexForUniqueId(uuid);
-            } else {
-                this.trackedIntBlockPositions.put(blockPos,
-                        new PlayerTracker(uuid == null ? -1 : ((IMixinWorldInfo) this.worldObj.getWorldInfo()).getIndexForUniqueId(uuid),
-                                PlayerTracker.Type.NOTIFIER));
+    private Optional<User> userForIndex(int index) {
+        if (index == -1) {
+            return Optional.empty();
+        }
+        Optional<UUID> uuid = ((IMixinWorldInfo) this.worldObj.getWorldInfo()).getUniqueIdForIndex(index);
+        if (uuid.isPresent()) {
+            // get player if online
+            EntityPlayer player = this.worldObj.getPlayerEntityByUUID(uuid.get());
+            if (player != null) {
+                return Optional.of((User) player);
             }
+            // player is not online, get or create user from storage
+            return Optional.of(this.userForUUID(uuid.get()));
         }
+        return Optional.empty();
     }
 
     // Special setter used by API
     @Override
-    public void setBlockCreator(BlockPos pos, UUID uuid) {
-        if (pos.getY() <= 255) {
-            short blockPos = blockPosToShort(pos);
-            if (this.trackedShortBlockPositions.get(blockPos) != null) {
-                this.trackedShortBlockPositions.get(blockPos).ownerIndex = uuid == null ? -1 : ((IMixinWorldInfo) this.worldObj.getWorldInfo())
-                        .getIndexForUniqueId(uuid);
-            } else {
-                this.trackedShortBlockPositions.put(blockPos, new PlayerTracker(uuid == null ? -1 : ((IMixinWorldInfo) this.worldObj.getWorldInfo())
-                        .getIndexForUniqueId(uuid), PlayerTracker.Type.OWNER));
-            }
-        } else {
-            int blockPos = blockPosToInt(pos);
-            if (this.trackedIntBlockPositions.get(blockPos) != null) {
-                this.trackedIntBlockPositions.get(blockPos).ownerIndex = uuid == null ? -1 : ((IMixinWorldInfo) this.worldObj.getWorldInfo())
-                        .getIndexForUniqueId(uuid);
-            } else {
-                this.trackedIntBlockPositions.put(blockPos, new PlayerTracker(uuid == null ? -1 : ((IMixinWorldInfo) this.worldObj.getWorldInfo())
-                        .getIndexForUniqueId(uuid), PlayerTracker.Type.OWNER));
-            }
-        }
+    public void setBlockNotifier(BlockPos pos, @Nullable UUID uuid) {
+        this.trackedBlockPositions.setNotifierIndex(blockPosToInt(pos),
+                uuid == null ? -1 : ((IMixinWorldInfo) this.worldObj.getWorldInfo()).getIndexForUniqueId(uuid));
     }
 
+    // Special setter used by API
     @Override
-    public void setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPositions) {
-        this.trackedIntBlockPositions = trackedPositions;
+    public void setBlockCreator(BlockPos pos, @Nullable UUID uuid) {
+        this.trackedBlockPositions.setOwnerIndex(blockPosToInt(pos),
+                uuid == null ? -1 : ((IMixinWorldInfo) this.worldObj.getWorldInfo()).getIndexForUniqueId(uuid));
     }
 
     @Override
-    public void setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPositions) {
-        this.trackedShortBlockPositions = trackedPositions;
+    public void setTrackedPlayerPositions(PlayerTrackerStore trackedPositions) {
+        this.trackedBlockPositions = trackedPositions;
     }
 
     /**
@@ -786,26 +709,6 @@ public int setNibble(int num, int data, int which, int bitsToReplace) {
         return (num & ~(bitsToReplace << (which * 4)) | (data << (which * 4)));
     }
 
-    /**
-     * Serialize this BlockPos into a short value
-     */
-    public short blockPosToShort(BlockPos pos) {
-        short serialized = (short) setNibble(0, pos.getX() & XZ_MASK, 0, NUM_XZ_BITS);
-        serialized = (short) setNibble(serialized, pos.getY() & Y_SHORT_MASK, 1, NUM_SHORT_Y_BITS);
-        serialized = (short) setNibble(serialized, pos.getZ() & XZ_MASK, 3, NUM_XZ_BITS);
-        return serialized;
-    }
-
-    /**
-     * Create a BlockPos from a serialized chunk position
-     */
-    public BlockPos blockPosFromShort(short serialized) {
-        int x = this.xPosition * 16 + (serialized & XZ_MASK);
-        int y = (serialized >> Y_SHIFT) & Y_SHORT_MASK;
-        int z = this.zPosition * 16 + ((serialized >> Z_SHORT_SHIFT) & XZ_MASK);
-        return new BlockPos(x, y, z);
-    }
-
     /**
      * Serialize this BlockPos into an int value
      */
@@ -948,8 +851,34 @@ public int getBlockDigTimeWith(int x, int y, int z, ItemStack itemStack, Cause c
         return this.world.getBlockDigTimeWith(this.xPosition << 4 + (x & 15), y, this.zPosition << 4 + (z & 15), itemStack, cause);
     }
 
+    /**
+     * Starts loading the users that own or notified blocks in this chunk, so
+     * resolving them later while ticking does not have to read their data.
+     */
+    private void prefetchTrackedUsers() {
+        if (this.trackedBlockPositions.isEmpty()) {
+            return;
+        }
+        Optional<UserStorageService> service = SpongeImpl.getGame().getServiceManager().provide(UserStorageService.class);
+        if (!service.isPresent() || !(service.get() instanceof SpongeUserStorageService)) {
+            return;
+        }
+        TIntSet indexes = new TIntHashSet(this.trackedBlockPositions.getIndexes());
+        indexes.remove(-1);
+        IMixinWorldInfo worldInfo = (IMixinWorldInfo) this.worldObj.getWorldInfo();
+        indexes.forEach(index -> {
+            worldInfo.getUniqueIdForIndex(index).ifPresent(((SpongeUserStorageService) service.get())::prefetch);
+            return true;
+        });
+    }
+
     private User userForUUID(UUID uuid) {
-        return SpongeImpl.getGame().getServiceManager().provide(UserStorageService.class).get().getOrCreate(GameProfile.of(uuid, null));
+        final UserStorageService service = SpongeImpl.getGame().getServiceManager().provide(UserStorageService.class).get();
+        if (service instanceof SpongeUserStorageService) {
+            // Don't read user data from disk while ticking
+            return ((SpongeUserStorageService) service).getOrCreateWithoutBlocking(uuid);
+        }
+        return service.getOrCreate(GameProfile.of(uuid, null));
     }
 
     @Override
@@ -990,6 +919,16 @@ public Optional<Chunk> getNeighbor(Direction direction, boolean shouldLoad) {
         return Optional.empty();
     }
 
+    @Override
+    public long getLastWatchedTick() {
+        return this.lastWatchedTick;
+    }
+
+    @Override
+    public void setLastWatchedTick(long tick) {
+        this.lastWatchedTick = tick;
+    }
+
     @Override
     public boolean areNeighborsLoaded() {
         for (Direction direction : CARDINAL_DIRECTIONS) {
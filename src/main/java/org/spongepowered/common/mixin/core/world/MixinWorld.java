@@ -139,6 +139,7 @@
 import org.spongepowered.common.event.CauseTracker;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.interfaces.IMixinChunk;
+import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
 import org.spongepowered.common.interfaces.entity.player.IMixinEntityPlayer;
 import org.spongepowered.common.interfaces.world.IMixinWorld;
@@ -285,6 +286,12 @@ public void onConstructed(ISaveHandler saveHandlerIn, WorldInfo info, WorldProvi
 
     @Override
     public SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockState extended, BlockPos pos, int updateFlag) {
+        return this.createSpongeBlockSnapshot(state, extended, pos, updateFlag, false);
+    }
+
+    // The tile entity data of captured snapshots is only serialized once the cause tracker hands them out, as most
+    // captures never reach a listener. All other snapshots may reach plugin code right away and are serialized up front.
+    private SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockState extended, BlockPos pos, int updateFlag, boolean captured) {
         this.builder.reset();
         Location<World> location = new Location<>((World) this, VecHelper.toVector(pos));
         this.builder.blockState((BlockState) state)
@@ -301,7 +308,9 @@ public SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockSt
         }
         if (state.getBlock() instanceof ITileEntityProvider) {
             net.minecraft.tileentity.TileEntity te = getTileEntity(pos);
-            if (te != null) {
+            if (te != null && captured) {
+                this.builder.tileData(((IMixinTileEntity) te).getSnapshotData());
+            } else if (te != null) {
                 TileEntity tile = (TileEntity) te;
                 for (DataManipulator<?, ?> manipulator : tile.getContainers()) {
                     this.builder.add(manipulator);
@@ -948,6 +957,14 @@ private void spongeLoadEntities(Collection<net.minecraft.entity.Entity> entities
             callbackInfo.cancel();
             return;
         }
+        if (!SpongeImpl.hasListeners(SpawnEntityEvent.ChunkLoad.class)) {
+            for (net.minecraft.entity.Entity entity : entities) {
+                this.loadedEntityList.add(entity);
+                this.onEntityAdded(entity);
+            }
+            callbackInfo.cancel();
+            return;
+        }
         List<Entity> entityList = new ArrayList<>();
         ImmutableList.Builder<EntitySnapshot> snapshotBuilder = ImmutableList.builder();
         for (net.minecraft.entity.Entity entity : entities) {
@@ -1115,13 +1132,15 @@ public boolean setBlockState(BlockPos pos, IBlockState newState, int flags) {
             if (!this.isRemote && causeTracker.isCapturingBlocks()) {
                 originalBlockSnapshot = null;
                 originalBlockSnapshot = createSpongeBlockSnapshot(currentState, currentState.getBlock().getActualState(currentState,
-                        (IBlockAccess) this, pos), pos, flags);
+                        (IBlockAccess) this, pos), pos, flags, true);
 
                 if (causeTracker.isCaptureBlockDecay()) {
                     // Only capture final state of decay, ignore the rest
                     if (newBlock == Blocks.air) {
                         ((SpongeBlockSnapshot) originalBlockSnapshot).captureType = CaptureType.DECAY;
                         causeTracker.getCapturedSpongeBlockSnapshots().add(originalBlockSnapshot);
+                    } else {
+                        ((SpongeBlockSnapshot) originalBlockSnapshot).discardTileData();
                     }
                 } else if (newBlock == Blocks.air) {
                     ((SpongeBlockSnapshot) originalBlockSnapshot).captureType = CaptureType.BREAK;
@@ -1143,6 +1162,7 @@ public boolean setBlockState(BlockPos pos, IBlockState newState, int flags) {
             if (iblockstate1 == null) {
                 if (originalBlockSnapshot != null) {
                     causeTracker.getCapturedSpongeBlockSnapshots().remove(originalBlockSnapshot);
+                    ((SpongeBlockSnapshot) originalBlockSnapshot).discardTileData();
                 }
                 return false;
             } else {
@@ -1297,7 +1317,7 @@ public void notifyNeighborsOfStateChange(BlockPos pos, Block blockType) {
         }
 
         final CauseTracker causeTracker = this.getCauseTracker();
-        if (causeTracker.isIgnoringCaptures()) {
+        if (causeTracker.isIgnoringCaptures() || !SpongeImpl.hasListeners(NotifyNeighborBlockEvent.class)) {
             for (EnumFacing facing : EnumFacing.values()) {
                 causeTracker.notifyBlockOfStateChange(pos.offset(facing), blockType, pos);
             }
@@ -1334,7 +1354,7 @@ public void notifyNeighborsOfStateExcept(BlockPos pos, Block blockType, EnumFaci
         directions.remove(skipSide);
 
         final CauseTracker causeTracker = this.getCauseTracker();
-        if (causeTracker.isIgnoringCaptures()) {
+        if (causeTracker.isIgnoringCaptures() || !SpongeImpl.hasListeners(NotifyNeighborBlockEvent.class)) {
             for (Object obj : directions) {
                 EnumFacing facing = (EnumFacing) obj;
                 causeTracker.notifyBlockOfStateChange(pos.offset(facing), blockType, pos);
@@ -58,6 +58,7 @@
 import net.minecraft.world.biome.BiomeGenBase;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import net.minecraft.world.gen.structure.StructureBoundingBox;
 import net.minecraft.world.gen.ChunkProviderServer;
 import org.apache.logging.log4j.Level;
 import org.spongepowered.api.block.ScheduledBlockUpdate;
@@ -109,15 +110,16 @@
 import org.spongepowered.common.interfaces.block.IMixinBlock;
 import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
-import org.spongepowered.common.interfaces.server.management.IMixinPlayerManager;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.mixin.plugin.interfaces.IModData;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.StaticMixinHelper;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.ScheduledBlockUpdateIndex;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -138,6 +140,7 @@ public abstract class MixinWorldServer extends MixinWorld implements IMixinWorld
 
     @Shadow @Final private Set<NextTickListEntry> pendingTickListEntriesHashSet;
     @Shadow @Final private TreeSet<NextTickListEntry> pendingTickListEntriesTreeSet;
+    @Shadow private List<NextTickListEntry> pendingTickListEntriesThisTick;
     @Shadow private Teleporter worldTeleporter;
     @Shadow private ServerBlockEventList[] blockEventQueue;
     @Shadow private int blockEventCacheIndex;
@@ -152,6 +155,13 @@ public abstract class MixinWorldServer extends MixinWorld implements IMixinWorld
     private int chunkGCTickCount = 0;
     private int chunkGCLoadThreshold = 0;
     private int chunkGCTickInterval = 600;
+    private int chunkGCScanBudget = 1000;
+    // The chunks left to check in the current cleanup, spread over several ticks
+    @Nullable private Chunk[] chunkGCQueue;
+    private int chunkGCCursor;
+    private long tickStartTime;
+    // Mirrors pendingTickListEntriesHashSet, see addPendingTickEntry and removePendingTickEntry
+    private final ScheduledBlockUpdateIndex scheduledUpdateIndex = new ScheduledBlockUpdateIndex();
     private boolean isCapturingBlocks = false;
     private boolean weatherThunderEnabled = true;
     private boolean weatherIceAndSnowEnabled = true;
@@ -176,6 +186,7 @@ public void onConstruct(CallbackInfo ci) {
         updateWorldGenerator();
         this.chunkGCLoadThreshold = this.getActiveConfig().getConfig().getWorld().getChunkLoadThreadhold();
         this.chunkGCTickInterval = this.getActiveConfig().getConfig().getWorld().getTickInterval();
+        this.chunkGCScanBudget = this.getActiveConfig().getConfig().getWorld().getChunkGCScanBudget();
         this.weatherIceAndSnowEnabled = this.getActiveConfig().getConfig().getWorld().getWeatherIceAndSnow();
         this.weatherThunderEnabled = this.getActiveConfig().getConfig().getWorld().getWeatherThunder();
     }
@@ -364,8 +375,7 @@ public boolean onQueueScheduledBlockUpdate(Set<NextTickListEntry> pendingSet, Ob
         final CauseTracker causeTracker = this.getCauseTracker();
         // If we don't have a notifier or the nextticklistentry has one, skip
         if (causeTracker.isIgnoringCaptures() || !causeTracker.hasNotifier() || ((IMixinNextTickListEntry) obj).hasSourceUser()) {
-            pendingSet.add((NextTickListEntry) obj);
-            return true;
+            return addPendingTickEntry(pendingSet, (NextTickListEntry) obj);
         }
 
         IMixinNextTickListEntry nextTickListEntry = (IMixinNextTickListEntry) obj;
@@ -379,10 +389,64 @@ public boolean onQueueScheduledBlockUpdate(Set<NextTickListEntry> pendingSet, Ob
             nextTickListEntry.setCurrentTickBlock(causeTracker.getCurrentTickBlock().get());
         }
 
-        pendingSet.add((NextTickListEntry) obj);
+        return addPendingTickEntry(pendingSet, (NextTickListEntry) obj);
+    }
+
+    @Redirect(method = "scheduleBlockUpdate", at = @At(value = "INVOKE", target = "Ljava/util/Set;add(Ljava/lang/Object;)Z", remap = false))
+    private boolean onScheduleBlockUpdate(Set<NextTickListEntry> pendingSet, Object obj) {
+        return addPendingTickEntry(pendingSet, (NextTickListEntry) obj);
+    }
+
+    @Redirect(method = "tickUpdates", at = @At(value = "INVOKE", target = "Ljava/util/Set;remove(Ljava/lang/Object;)Z", remap = false))
+    private boolean onTickUpdatesRemove(Set<NextTickListEntry> pendingSet, Object obj) {
+        return removePendingTickEntry(pendingSet, (NextTickListEntry) obj);
+    }
+
+    private boolean addPendingTickEntry(Set<NextTickListEntry> pendingSet, NextTickListEntry entry) {
+        if (!pendingSet.add(entry)) {
+            return false;
+        }
+        this.scheduledUpdateIndex.add(entry);
         return true;
     }
 
+    private boolean removePendingTickEntry(Set<NextTickListEntry> pendingSet, NextTickListEntry entry) {
+        if (!pendingSet.remove(entry)) {
+            return false;
+        }
+        this.scheduledUpdateIndex.remove(entry);
+        return true;
+    }
+
+    // Vanilla walks the whole pending queue, which chunk saving does for every chunk
+    @Inject(method = "getPendingBlockUpdates(Lnet/minecraft/world/gen/structure/StructureBoundingBox;Z)Ljava/util/List;", at = @At("HEAD"),
+            cancellable = true)
+    private void onGetPendingBlockUpdates(StructureBoundingBox structureBB, boolean remove, CallbackInfoReturnable<List<NextTickListEntry>> cir) {
+        List<NextTickListEntry> list = this.scheduledUpdateIndex.getWithin(structureBB);
+        // Keep the order of the pending queue, which the entries in the current tick follow
+        Collections.sort(list);
+        if (remove) {
+            for (NextTickListEntry entry : list) {
+                removePendingTickEntry(this.pendingTickListEntriesHashSet, entry);
+                this.pendingTickListEntriesTreeSet.remove(entry);
+            }
+        }
+
+        for (Iterator<NextTickListEntry> iterator = this.pendingTickListEntriesThisTick.iterator(); iterator.hasNext(); ) {
+            NextTickListEntry entry = iterator.next();
+            BlockPos pos = entry.position;
+            if (pos.getX() >= structureBB.minX && pos.getX() < structureBB.maxX && pos.getZ() >= structureBB.minZ && pos.getZ() < structureBB.maxZ) {
+                if (remove) {
+                    iterator.remove();
+                }
+                list.add(entry);
+            }
+        }
+
+        // Vanilla returns null rather than an empty list
+        cir.setReturnValue(list.isEmpty() ? null : list);
+    }
+
     @Redirect(method = "updateBlockTick", at = @At(value = "INVOKE", target="Lnet/minecraft/block/Block;updateTick(Lnet/minecraft/world/World;Lnet/minecraft/util/BlockPos;Lnet/minecraft/block/state/IBlockState;Ljava/util/Random;)V"))
     public void onUpdateBlockTick(Block block, net.minecraft.world.World worldIn, BlockPos pos, IBlockState state, Random rand) {
         final CauseTracker causeTracker = this.getCauseTracker();
@@ -451,6 +515,11 @@ public void onUpdateTick(Block block, net.minecraft.world.World worldIn, BlockPo
         spongeBlock.getTimingsHandler().stopTiming();
     }
 
+    @Inject(method = "tick", at = @At("HEAD"))
+    private void onTickStart(CallbackInfo ci) {
+        this.tickStartTime = System.nanoTime();
+    }
+
     @Inject(method = "tick", at = @At(value = "INVOKE_STRING", target = PROFILER_ESS, args = "ldc=tickPending") )
     private void onBeginTickBlockUpdate(CallbackInfo ci) {
         this.timings.scheduledBlocks.startTiming();
@@ -498,25 +567,43 @@ private void doChunkGC() {
         this.chunkGCTickCount++;
 
         ChunkProviderServer chunkProviderServer = (ChunkProviderServer) this.getChunkProvider();
-        int chunkLoadCount = this.getChunkProvider().getLoadedChunkCount();
-        if (chunkLoadCount >= this.chunkGCLoadThreshold && this.chunkGCLoadThreshold > 0) {
-            chunkLoadCount = 0;
-        } else if (this.chunkGCTickCount >= this.chunkGCTickInterval && this.chunkGCTickInterval > 0) {
-            this.chunkGCTickCount = 0;
-        } else {
-            return;
+        if (this.chunkGCQueue == null) {
+            int chunkLoadCount = this.getChunkProvider().getLoadedChunkCount();
+            if (chunkLoadCount >= this.chunkGCLoadThreshold && this.chunkGCLoadThreshold > 0) {
+                chunkLoadCount = 0;
+            } else if (this.chunkGCTickCount >= this.chunkGCTickInterval && this.chunkGCTickInterval > 0) {
+                this.chunkGCTickCount = 0;
+            } else {
+                return;
+            }
+
+            // Chunks loaded after this point are left for the next cleanup
+            this.chunkGCQueue = chunkProviderServer.loadedChunks.toArray(new Chunk[chunkProviderServer.loadedChunks.size()]);
+            this.chunkGCCursor = 0;
         }
 
-        for (Chunk chunk : chunkProviderServer.loadedChunks) {
-            // If a player is currently using the chunk, skip it
-            if (((IMixinPlayerManager) this.getPlayerManager()).isChunkInUse(chunk.xPosition, chunk.zPosition)) {
+        this.timings.doChunkGC.startTiming();
+        final int start = this.chunkGCCursor;
+        final int end = this.chunkGCScanBudget > 0 ? Math.min(this.chunkGCQueue.length, start + this.chunkGCScanBudget) : this.chunkGCQueue.length;
+        for (; this.chunkGCCursor < end; this.chunkGCCursor++) {
+            Chunk chunk = this.chunkGCQueue[this.chunkGCCursor];
+            this.chunkGCQueue[this.chunkGCCursor] = null;
+            // Skip chunks that were unloaded since the cleanup started, or that a player is currently using
+            if (!((org.spongepowered.api.world.Chunk) chunk).isLoaded() || ((IMixinChunk) chunk).getLastWatchedTick() == Long.MAX_VALUE) {
                 continue;
             }
 
             // Queue chunk for unload
             chunkProviderServer.dropChunk(chunk.xPosition, chunk.zPosition);
             SpongeHooks.logChunkGCQueueUnload(chunkProviderServer.worldObj, chunk);
+            this.timings.chunkGCQueued++;
+        }
+
+        this.timings.chunkGCScanned += end - start;
+        if (this.chunkGCCursor >= this.chunkGCQueue.length) {
+            this.chunkGCQueue = null;
         }
+        this.timings.doChunkGC.stopTiming();
     }
 
     @Inject(method = "saveAllChunks", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/gen/ChunkProviderServer;func_152380_a()Ljava/util/List;"), cancellable = true)
@@ -538,6 +625,7 @@ public void updateEntities()
     {
         if (this.playerEntities.isEmpty()) {
             if (this.updateEntityTick++ >= 1200) {
+                this.recordTickTime(); // Sponge
                 return;
             }
         } else {
@@ -775,16 +863,21 @@ public void updateEntities()
         TimingHistory.tileEntityTicks += this.loadedTileEntityList.size(); // Sponge
         this.theProfiler.endSection();
         this.theProfiler.endSection();
+        this.recordTickTime(); // Sponge
+    }
+
+    private void recordTickTime() {
+        if (this.tickStartTime != 0) {
+            this.timings.tickTimes.record(System.nanoTime() - this.tickStartTime);
+            this.tickStartTime = 0;
+        }
     }
 
     @Override
     public Collection<ScheduledBlockUpdate> getScheduledUpdates(int x, int y, int z) {
-        BlockPos position = new BlockPos(x, y, z);
         ImmutableList.Builder<ScheduledBlockUpdate> builder = ImmutableList.builder();
-        for (NextTickListEntry sbu : this.pendingTickListEntriesTreeSet) {
-            if (sbu.position.equals(position)) {
-                builder.add((ScheduledBlockUpdate) sbu);
-            }
+        for (NextTickListEntry sbu : this.scheduledUpdateIndex.get(new BlockPos(x, y, z))) {
+            builder.add((ScheduledBlockUpdate) sbu);
         }
         return builder.build();
     }
@@ -828,7 +921,7 @@ public ScheduledBlockUpdate addScheduledUpdate(int x, int y, int z, int priority
     @Override
     public void removeScheduledUpdate(int x, int y, int z, ScheduledBlockUpdate update) {
         // Note: Ignores position argument
-        this.pendingTickListEntriesHashSet.remove(update);
+        removePendingTickEntry(this.pendingTickListEntriesHashSet, (NextTickListEntry) update);
         this.pendingTickListEntriesTreeSet.remove(update);
     }
 
@@ -1035,6 +1128,7 @@ public void setActiveConfig(SpongeConfig<?> config) {
         // update cached settings
         this.chunkGCLoadThreshold = this.activeConfig.getConfig().getWorld().getChunkLoadThreadhold();
         this.chunkGCTickInterval = this.activeConfig.getConfig().getWorld().getTickInterval();
+        this.chunkGCScanBudget = this.activeConfig.getConfig().getWorld().getChunkGCScanBudget();
         this.weatherIceAndSnowEnabled = this.activeConfig.getConfig().getWorld().getWeatherIceAndSnow();
         this.weatherThunderEnabled = this.activeConfig.getConfig().getWorld().getWeatherThunder();
         if (this.getChunkProvider() != null) {
@@ -114,6 +114,11 @@ public void populate(IChunkProvider chunkProvider, int x, int z) {
         }
     }
 
+    @Override
+    public IChunkLoader getChunkLoader() {
+        return this.chunkLoader;
+    }
+
     @Override
     public ChunkDataStream getGeneratedChunks() {
         if (!(this.chunkLoader instanceof IMixinAnvilChunkLoader)) {
@@ -176,6 +181,11 @@ public void onUnloadQueuedChunksStart(CallbackInfoReturnable<Boolean> ci) {
         spongeWorld.getTimingsHandler().doChunkUnload.startTiming();
     }
 
+    @Inject(method = "unloadQueuedChunks", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/chunk/Chunk;onChunkUnload()V"))
+    public void onUnloadQueuedChunk(CallbackInfoReturnable<Boolean> ci) {
+        ((IMixinWorld) this.worldObj).getTimingsHandler().chunkGCReclaimed++;
+    }
+
     @Inject(method = "unloadQueuedChunks", at = @At("RETURN"))
     public void onUnloadQueuedChunksEnd(CallbackInfoReturnable<Boolean> ci) {
         IMixinWorld spongeWorld = (IMixinWorld) this.worldObj;
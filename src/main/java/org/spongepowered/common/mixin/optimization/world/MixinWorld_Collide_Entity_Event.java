@@ -0,0 +1,127 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.world;
+
+import com.google.common.base.Predicate;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.api.event.entity.CollideEntityEvent;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.event.CauseTracker;
+import org.spongepowered.common.event.SpongeCommonEventFactory;
+import org.spongepowered.common.interfaces.world.IMixinWorld;
+import org.spongepowered.common.util.StaticMixinHelper;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+@Mixin(World.class)
+public abstract class MixinWorld_Collide_Entity_Event {
+
+    private static final String GET_ENTITIES_WITHIN_AABB =
+            "getEntitiesWithinAABB(Ljava/lang/Class;Lnet/minecraft/util/AxisAlignedBB;Lcom/google/common/base/Predicate;)Ljava/util/List;";
+    private static final String CHUNK_GET_ENTITIES_FOR_ENTITY = "Lnet/minecraft/world/chunk/Chunk;getEntitiesWithinAABBForEntity"
+            + "(Lnet/minecraft/entity/Entity;Lnet/minecraft/util/AxisAlignedBB;Ljava/util/List;Lcom/google/common/base/Predicate;)V";
+    private static final String CHUNK_GET_ENTITIES_OF_TYPE = "Lnet/minecraft/world/chunk/Chunk;getEntitiesOfTypeWithinAAAB"
+            + "(Ljava/lang/Class;Lnet/minecraft/util/AxisAlignedBB;Ljava/util/List;Lcom/google/common/base/Predicate;)V";
+
+    @Shadow @Final public boolean isRemote;
+
+    /**
+     * Suppresses the per chunk {@link CollideEntityEvent}s fired while
+     * querying each chunk the bounding box touches, as a single event is fired
+     * for the whole query once it returns.
+     */
+    @Redirect(method = "getEntitiesInAABBexcluding", at = @At(value = "INVOKE", target = CHUNK_GET_ENTITIES_FOR_ENTITY))
+    private void onGetChunkEntitiesForEntity(Chunk chunk, Entity entityIn, AxisAlignedBB aabb, List<Entity> listToFill,
+            Predicate<? super Entity> predicate) {
+        if (this.isRemote) {
+            chunk.getEntitiesWithinAABBForEntity(entityIn, aabb, listToFill, predicate);
+            return;
+        }
+        StaticMixinHelper.collideEntityQueryDepth++;
+        try {
+            chunk.getEntitiesWithinAABBForEntity(entityIn, aabb, listToFill, predicate);
+        } finally {
+            StaticMixinHelper.collideEntityQueryDepth--;
+        }
+    }
+
+    @Redirect(method = GET_ENTITIES_WITHIN_AABB, at = @At(value = "INVOKE", target = CHUNK_GET_ENTITIES_OF_TYPE))
+    private <T extends Entity> void onGetChunkEntitiesOfType(Chunk chunk, Class<? extends T> clazz, AxisAlignedBB aabb, List<T> listToFill,
+            Predicate<? super T> filter) {
+        if (this.isRemote) {
+            chunk.getEntitiesOfTypeWithinAAAB(clazz, aabb, listToFill, filter);
+            return;
+        }
+        StaticMixinHelper.collideEntityQueryDepth++;
+        try {
+            chunk.getEntitiesOfTypeWithinAAAB(clazz, aabb, listToFill, filter);
+        } finally {
+            StaticMixinHelper.collideEntityQueryDepth--;
+        }
+    }
+
+    @Inject(method = "getEntitiesInAABBexcluding", at = @At("RETURN"))
+    private void onGetEntitiesInAABBExcludingEnd(Entity entityIn, AxisAlignedBB boundingBox, Predicate<? super Entity> predicate,
+            CallbackInfoReturnable<List<Entity>> cir) {
+        if (!this.isRemote) {
+            fireCollideEntityEvent(entityIn, cir.getReturnValue());
+        }
+    }
+
+    @Inject(method = GET_ENTITIES_WITHIN_AABB, at = @At("RETURN"))
+    private void onGetEntitiesWithinAABBEnd(Class<?> clazz, AxisAlignedBB aabb, Predicate<?> filter, CallbackInfoReturnable<List<Entity>> cir) {
+        if (!this.isRemote) {
+            fireCollideEntityEvent(null, cir.getReturnValue());
+        }
+    }
+
+    private void fireCollideEntityEvent(@Nullable Entity sourceEntity, List<Entity> entities) {
+        if (entities.isEmpty() || !SpongeImpl.hasListeners(CollideEntityEvent.class)) {
+            return;
+        }
+
+        final CauseTracker causeTracker = ((IMixinWorld) this).getCauseTracker();
+        if (!causeTracker.hasCurrentCause() || causeTracker.isIgnoringCaptures()) {
+            return;
+        }
+
+        CollideEntityEvent event = SpongeCommonEventFactory.callCollideEntityEvent((World) (Object) this, sourceEntity, entities);
+        if (event.isCancelled()) {
+            entities.clear();
+        }
+    }
+}
@@ -28,12 +28,12 @@
 import net.minecraft.world.gen.ChunkProviderServer;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
-import org.spongepowered.common.util.LongCachedHashMap;
+import org.spongepowered.common.util.LongChunkHashMap;
 
 @SuppressWarnings("rawtypes")
 @Mixin(ChunkProviderServer.class)
 public class MixinChunkProviderServer_Chunk_Cache {
 
-    @Shadow private LongHashMap id2ChunkMap = new LongCachedHashMap();
+    @Shadow private LongHashMap id2ChunkMap = new LongChunkHashMap();
 
 }
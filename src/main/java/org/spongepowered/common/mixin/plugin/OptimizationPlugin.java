@@ -84,8 +84,8 @@ public void postApply(String targetClassName, ClassNode targetClass, String mixi
                     OptimizationCategory::useIgnoreUloadedChunkLightingPatch)
             .put("org.spongepowered.common.mixin.optimization.world.gen.MixinChunkProviderServer_Chunk_Cache",
                     OptimizationCategory::isUseCachedChunkMap)
-            .put("org.spongepowered.common.mixin.optimization.world.MixinChunk_Chunk_Cache",
-                    OptimizationCategory::isUseCachedChunkMap)
+            .put("org.spongepowered.common.mixin.optimization.world.MixinWorld_Collide_Entity_Event",
+                    OptimizationCategory::useCoalescedCollideEntityEvents)
             .build();
 
 }
@@ -27,6 +27,9 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.collect.ImmutableMap;
+import gnu.trove.iterator.TLongObjectIterator;
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.hash.TLongObjectHashMap;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityCreature;
 import net.minecraft.entity.EntityLivingBase;
@@ -53,7 +56,9 @@
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.util.AxisAlignedBB;
 import net.minecraft.util.BlockPos;
+import net.minecraft.util.ClassInheritanceMultiMap;
 import net.minecraft.util.MathHelper;
+import net.minecraft.world.ChunkCoordIntPair;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
@@ -67,8 +72,8 @@
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayDeque;
+import java.util.List;
 
 public class ActivationRange {
 
@@ -80,22 +85,14 @@ public class ActivationRange {
             .put((byte) 5, "misc")
             .build();
 
-    static AxisAlignedBB maxBB = AxisAlignedBB.fromBounds(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB miscBB = AxisAlignedBB.fromBounds(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB creatureBB = AxisAlignedBB.fromBounds(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB monsterBB = AxisAlignedBB.fromBounds(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB aquaticBB = AxisAlignedBB.fromBounds(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB ambientBB = AxisAlignedBB.fromBounds(0, 0, 0, 0, 0, 0);
-    @SuppressWarnings("serial") static Map<Byte, Integer> maxActivationRanges = new HashMap<Byte, Integer>() {
-
-        {
-            put((byte) 1, 32);
-            put((byte) 2, 32);
-            put((byte) 3, 32);
-            put((byte) 4, 32);
-            put((byte) 5, 16);
-        }
-    };
+    // Indexed by activation type, index 0 is unused
+    static final int[] maxActivationRanges = {0, 32, 32, 32, 32, 16};
+    static int maxActivationRange = 32;
+
+    // Per tick activation pass state, only ever touched from the main thread
+    private static final TLongObjectHashMap<TIntArrayList> playerCells = new TLongObjectHashMap<>();
+    private static final ArrayDeque<TIntArrayList> cellPool = new ArrayDeque<>();
+    private static double[] playerBounds = new double[6 * 16];
 
     /**
      * Initializes an entities type on construction to specify what group this
@@ -193,134 +190,114 @@ public static boolean initializeEntityActivationState(Entity entity) {
         return false;
     }
 
-    /**
-     * Utility method to grow an AABB without creating a new AABB or touching
-     * the pool, so we can re-use ones we have.
-     *
-     * @param target The AABB to modify
-     * @param source The AABB to get initial coordinates from
-     * @param x The x value to expand by
-     * @param y The y value to expand by
-     * @param z The z value to expand by
-     */
-    public static void growBb(AxisAlignedBB target, AxisAlignedBB source, int x, int y, int z) {
-        target.minX = source.minX - x;
-        target.minY = source.minY - y;
-        target.minZ = source.minZ - z;
-        target.maxX = source.maxX + x;
-        target.maxY = source.maxY + y;
-        target.maxZ = source.maxZ + z;
-    }
-
     /**
      * Find what entities are in range of the players in the world and set
      * active if in range.
      *
+     * <p>The bounding boxes of all players are copied into a flat array and
+     * each player is registered in every chunk its maximum activation range
+     * reaches. Every chunk is then visited once and its entities are only
+     * tested against the players registered for it.</p>
+     *
      * @param world The world to perform activation checks in
      */
     public static void activateEntities(World world) {
-        for (EntityPlayer player : world.playerEntities) {
+        final List<EntityPlayer> players = world.playerEntities;
+        if (players.isEmpty()) {
+            return;
+        }
 
-            int maxRange = 0;
-            for (Integer range : maxActivationRanges.values()) {
-                if (range > maxRange) {
-                    maxRange = range;
+        final long currentTick = world.getWorldInfo().getWorldTotalTime();
+        final int maxRange = Math.min((MinecraftServer.getServer().getConfigurationManager().getViewDistance() << 4) - 8, maxActivationRange);
+        if (playerBounds.length < players.size() * 6) {
+            playerBounds = new double[players.size() * 12];
+        }
+        final double[] bounds = playerBounds;
+
+        for (int index = 0; index < players.size(); index++) {
+            final EntityPlayer player = players.get(index);
+            ((IModData_Activation) player).setActivatedTick(currentTick);
+            final AxisAlignedBB bb = player.getEntityBoundingBox();
+            final int offset = index * 6;
+            bounds[offset] = bb.minX;
+            bounds[offset + 1] = bb.minY;
+            bounds[offset + 2] = bb.minZ;
+            bounds[offset + 3] = bb.maxX;
+            bounds[offset + 4] = bb.maxY;
+            bounds[offset + 5] = bb.maxZ;
+
+            final int minChunkX = MathHelper.floor_double((bb.minX - maxRange) / 16.0D);
+            final int maxChunkX = MathHelper.floor_double((bb.maxX + maxRange) / 16.0D);
+            final int minChunkZ = MathHelper.floor_double((bb.minZ - maxRange) / 16.0D);
+            final int maxChunkZ = MathHelper.floor_double((bb.maxZ + maxRange) / 16.0D);
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; ++chunkX) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; ++chunkZ) {
+                    final long key = ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ);
+                    TIntArrayList cell = playerCells.get(key);
+                    if (cell == null) {
+                        cell = cellPool.isEmpty() ? new TIntArrayList(4) : cellPool.pop();
+                        playerCells.put(key, cell);
+                    }
+                    cell.add(index);
                 }
             }
+        }
 
-            maxRange = Math.min((MinecraftServer.getServer().getConfigurationManager().getViewDistance() << 4) - 8, maxRange);
-            ((IModData_Activation) player).setActivatedTick(world.getWorldInfo().getWorldTotalTime());
-            growBb(maxBB, player.getEntityBoundingBox(), maxRange, 256, maxRange);
-
-            int i = MathHelper.floor_double(maxBB.minX / 16.0D);
-            int j = MathHelper.floor_double(maxBB.maxX / 16.0D);
-            int k = MathHelper.floor_double(maxBB.minZ / 16.0D);
-            int l = MathHelper.floor_double(maxBB.maxZ / 16.0D);
-
-            for (int i1 = i; i1 <= j; ++i1) {
-                for (int j1 = k; j1 <= l; ++j1) {
-                    WorldServer worldserver = (WorldServer) world;
-                    IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) worldserver.theChunkProviderServer;
-                    Chunk chunk = chunkProvider.getChunkIfLoaded(i1, j1);
-                    if (chunk != null) {
-                        activateChunkEntities(player, chunk);
-                    }
+        final boolean hasConfig = ((IMixinWorld) world).getActiveConfig() != null;
+        final IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) ((WorldServer) world).theChunkProviderServer;
+        final TLongObjectIterator<TIntArrayList> iterator = playerCells.iterator();
+        while (iterator.hasNext()) {
+            iterator.advance();
+            final long key = iterator.key();
+            final TIntArrayList cell = iterator.value();
+            if (hasConfig) {
+                final Chunk chunk = chunkProvider.getChunkIfLoaded((int) key, (int) (key >>> 32));
+                if (chunk != null) {
+                    activateChunkEntities(chunk, cell, bounds, currentTick);
                 }
             }
+            cell.resetQuick();
+            cellPool.push(cell);
         }
+        playerCells.clear();
     }
 
     /**
      * Checks for the activation state of all entities in this chunk.
      *
      * @param chunk Chunk to check for activation
+     * @param players The indexes of the players whose range reaches the chunk
+     * @param bounds The flattened bounding boxes of all players
+     * @param currentTick The current world tick
      */
-    private static void activateChunkEntities(EntityPlayer player, Chunk chunk) {
-        for (int i = 0; i < chunk.getEntityLists().length; ++i) {
-
-            for (Object o : chunk.getEntityLists()[i]) {
-                Entity entity = (Entity) o;
-                SpongeConfig<?> config = ((IMixinWorld) entity.worldObj).getActiveConfig();
-                SpongeEntityType type = (SpongeEntityType) ((org.spongepowered.api.entity.Entity) entity).getType();
-                if (config == null || type == null) {
+    private static void activateChunkEntities(Chunk chunk, TIntArrayList players, double[] bounds, long currentTick) {
+        for (ClassInheritanceMultiMap<Entity> entityList : chunk.getEntityLists()) {
+            for (Entity entity : entityList) {
+                final IModData_Activation spongeEntity = (IModData_Activation) entity;
+                if (currentTick <= spongeEntity.getActivatedTick() || ((org.spongepowered.api.entity.Entity) entity).getType() == null) {
                     continue;
                 }
 
-                long currentTick = entity.worldObj.getWorldInfo().getWorldTotalTime();
-                if (currentTick > ((IModData_Activation) entity).getActivatedTick()) {
-                    if (((IModData_Activation) entity).getDefaultActivationState()) {
-                        ((IModData_Activation) entity).setActivatedTick(currentTick);
-                        continue;
-                    }
+                if (spongeEntity.getDefaultActivationState()) {
+                    spongeEntity.setActivatedTick(currentTick);
+                    continue;
+                }
 
-                    IModData_Activation spongeEntity = (IModData_Activation) entity;
-                    // check if activation cache needs to be updated
-                    if (spongeEntity.requiresCacheRefresh()) {
-                        ActivationRange.initializeEntityActivationState(entity);
-                        spongeEntity.requiresCacheRefresh(false);
-                    }
-                    // check for entity type overrides
-                    byte activationType = ((IModData_Activation) entity).getActivationType();
-                    int bbActivationRange = ((IModData_Activation) entity).getActivationRange();
-
-                    if (activationType == 5) {
-                        growBb(miscBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 4) {
-                        growBb(ambientBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 3) {
-                        growBb(aquaticBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 2) {
-                        growBb(creatureBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else {
-                        growBb(monsterBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    }
+                // check if activation cache needs to be updated
+                if (spongeEntity.requiresCacheRefresh()) {
+                    ActivationRange.initializeEntityActivationState(entity);
+                    spongeEntity.requiresCacheRefresh(false);
+                }
 
-                    switch (((IModData_Activation) entity).getActivationType()) {
-                        case 1:
-                            if (monsterBB.intersectsWith(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 2:
-                            if (creatureBB.intersectsWith(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 3:
-                            if (aquaticBB.intersectsWith(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 4:
-                            if (ambientBB.intersectsWith(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 5:
-                        default:
-                            if (miscBB.intersectsWith(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
+                final int range = spongeEntity.getActivationRange();
+                final AxisAlignedBB bb = entity.getEntityBoundingBox();
+                for (int i = 0; i < players.size(); i++) {
+                    final int offset = players.getQuick(i) * 6;
+                    if (bb.maxX > bounds[offset] - range && bb.minX < bounds[offset + 3] + range
+                            && bb.maxY > bounds[offset + 1] - 256 && bb.minY < bounds[offset + 4] + 256
+                            && bb.maxZ > bounds[offset + 2] - range && bb.minZ < bounds[offset + 5] + range) {
+                        spongeEntity.setActivatedTick(currentTick);
+                        break;
                     }
                 }
             }
@@ -446,9 +423,7 @@ public static void addEntityToConfig(World world, SpongeEntityType type, byte ac
                 requiresSave = true;
             } else if (modActivationRange != null) {
                 // check max ranges
-                if (modActivationRange > maxActivationRanges.get(activationType)) {
-                    maxActivationRanges.put(activationType, modActivationRange);
-                }
+                updateMaxActivationRange(activationType, modActivationRange);
             }
 
             // check for entity overrides
@@ -458,9 +433,7 @@ public static void addEntityToConfig(World world, SpongeEntityType type, byte ac
                 requiresSave = true;
             } else if (entityActivationRange != null) {
                 // check max ranges
-                if (entityActivationRange > maxActivationRanges.get(activationType)) {
-                    maxActivationRanges.put(activationType, entityActivationRange);
-                }
+                updateMaxActivationRange(activationType, entityActivationRange);
             }
         }
 
@@ -468,4 +441,13 @@ public static void addEntityToConfig(World world, SpongeEntityType type, byte ac
             config.save();
         }
     }
+
+    private static void updateMaxActivationRange(byte activationType, int range) {
+        if (range > maxActivationRanges[activationType]) {
+            maxActivationRanges[activationType] = range;
+            if (range > maxActivationRange) {
+                maxActivationRange = range;
+            }
+        }
+    }
 }
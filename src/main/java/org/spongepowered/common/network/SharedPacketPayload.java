@@ -0,0 +1,83 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.Packet;
+import net.minecraft.network.PacketBuffer;
+
+import java.io.IOException;
+
+import javax.annotation.Nullable;
+
+/**
+ * The serialized payload of a packet that is sent to many players, such as a
+ * chat message or title. The packet is written once and the bytes are copied
+ * into the buffer of every connection it is sent to.
+ *
+ * <p>The packet must not be modified after it has first been sent.</p>
+ */
+public final class SharedPacketPayload {
+
+    @Nullable private volatile byte[] payload;
+    private boolean encoding;
+
+    /**
+     * Writes the serialized packet to the given buffer, serializing it first
+     * if this is the first time it is sent.
+     *
+     * @param packet The packet owning this payload
+     * @param buf The buffer to write to
+     * @return False if the packet is being serialized by this call and the
+     *     caller should write it normally
+     * @throws IOException If the packet could not be written
+     */
+    public boolean write(Packet<?> packet, PacketBuffer buf) throws IOException {
+        byte[] payload = this.payload;
+        if (payload == null) {
+            synchronized (this) {
+                if (this.encoding) {
+                    return false;
+                }
+                payload = this.payload;
+                if (payload == null) {
+                    final PacketBuffer encoded = new PacketBuffer(Unpooled.buffer());
+                    this.encoding = true;
+                    try {
+                        packet.writePacketData(encoded);
+                        payload = new byte[encoded.readableBytes()];
+                        encoded.readBytes(payload);
+                    } finally {
+                        this.encoding = false;
+                        encoded.release();
+                    }
+                    this.payload = payload;
+                }
+            }
+        }
+        buf.writeBytes(payload);
+        return true;
+    }
+}
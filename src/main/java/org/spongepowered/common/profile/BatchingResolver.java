@@ -0,0 +1,189 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.profile;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves keys in batches. Requests for a key that is already being
+ * resolved share its result, and requests made within a short window are
+ * looked up together.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public final class BatchingResolver<K, V> {
+
+    /**
+     * Looks up a batch of keys at once.
+     *
+     * @param <K> The key type
+     * @param <V> The value type
+     */
+    @FunctionalInterface
+    public interface BatchLookup<K, V> {
+
+        /**
+         * Looks up the given keys. Keys that are missing from the returned
+         * map resolve to the default value of the resolver.
+         *
+         * @param keys The keys to look up
+         * @return The values found
+         * @throws Exception If the lookup failed
+         */
+        Map<K, V> lookup(Collection<K> keys) throws Exception;
+    }
+
+    private final BatchLookup<K, V> lookup;
+    private final V defaultValue;
+    private final ScheduledExecutorService timer;
+    private final Executor executor;
+    private final long windowMillis;
+    private final int maxBatchSize;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private List<K> batch = new ArrayList<>();
+    private boolean flushScheduled;
+
+    /**
+     * Creates a new resolver.
+     *
+     * @param lookup The lookup to resolve batches with
+     * @param defaultValue The value of keys the lookup did not find
+     * @param timer The executor to wait for the end of a window on
+     * @param executor The executor to run lookups on
+     * @param windowMillis How long to collect requests for before looking
+     *     them up
+     * @param maxBatchSize The number of requests to look up immediately
+     *     without waiting for the window to end
+     */
+    public BatchingResolver(BatchLookup<K, V> lookup, V defaultValue, ScheduledExecutorService timer, Executor executor,
+            long windowMillis, int maxBatchSize) {
+        checkArgument(maxBatchSize > 0, "max batch size must be positive");
+        this.lookup = checkNotNull(lookup, "lookup");
+        this.defaultValue = checkNotNull(defaultValue, "default value");
+        this.timer = checkNotNull(timer, "timer");
+        this.executor = checkNotNull(executor, "executor");
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Resolves the given key with the next batch, or joins the lookup that
+     * is already resolving it.
+     *
+     * @param key The key to resolve
+     * @return The future result
+     */
+    public CompletableFuture<V> resolve(K key) {
+        checkNotNull(key, "key");
+        final CompletableFuture<V> future = new CompletableFuture<>();
+        final CompletableFuture<V> existing = this.inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing;
+        }
+        List<K> full = null;
+        synchronized (this) {
+            this.batch.add(key);
+            if (this.batch.size() >= this.maxBatchSize) {
+                full = this.batch;
+                this.batch = new ArrayList<>();
+            } else if (!this.flushScheduled) {
+                this.flushScheduled = true;
+                this.timer.schedule(this::flush, this.windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (full != null) {
+            submit(full);
+        }
+        return future;
+    }
+
+    /**
+     * Gets the number of keys currently being resolved.
+     *
+     * @return The number of keys in flight
+     */
+    public int getInFlightCount() {
+        return this.inFlight.size();
+    }
+
+    private void flush() {
+        final List<K> keys;
+        synchronized (this) {
+            keys = this.batch;
+            this.batch = new ArrayList<>();
+            this.flushScheduled = false;
+        }
+        if (!keys.isEmpty()) {
+            submit(keys);
+        }
+    }
+
+    private void submit(List<K> keys) {
+        try {
+            this.executor.execute(() -> lookup(keys));
+        } catch (Throwable t) {
+            // Nothing else would ever complete the requests of this batch
+            fail(keys, t);
+        }
+    }
+
+    private void fail(List<K> keys, Throwable t) {
+        for (K key : keys) {
+            final CompletableFuture<V> future = this.inFlight.remove(key);
+            if (future != null) {
+                future.completeExceptionally(t);
+            }
+        }
+    }
+
+    private void lookup(List<K> keys) {
+        final Map<K, V> results;
+        try {
+            results = this.lookup.lookup(Collections.unmodifiableList(keys));
+        } catch (Throwable t) {
+            fail(keys, t);
+            return;
+        }
+        for (K key : keys) {
+            final V value = results.get(key);
+            // Removed first so that later requests look the key up again
+            this.inFlight.remove(key).complete(value == null ? this.defaultValue : value);
+        }
+    }
+}
@@ -22,30 +22,39 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
  * THE SOFTWARE.
  */
-package org.spongepowered.common.mixin.optimization.world;
+package org.spongepowered.common.profile;
 
-import net.minecraft.world.ChunkCoordIntPair;
-import net.minecraft.world.chunk.Chunk;
-import org.spongepowered.asm.mixin.Final;
-import org.spongepowered.asm.mixin.Mixin;
-import org.spongepowered.asm.mixin.Shadow;
-import org.spongepowered.common.interfaces.IMixinCachable;
+import org.spongepowered.api.profile.GameProfile;
 
-@Mixin(Chunk.class)
-public class MixinChunk_Chunk_Cache implements IMixinCachable {
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
-    @Shadow @Final public int xPosition;
-    @Shadow @Final public int zPosition;
+/**
+ * Looks up profiles that are not cached, such as from the Mojang API.
+ * Lookups are made in batches by the {@link SpongeProfileManager}, which
+ * adds the results to its cache.
+ */
+public interface ProfileLookupBackend {
 
-    private long cacheKey = ChunkCoordIntPair.chunkXZ2Int(this.xPosition, this.zPosition);
+    /**
+     * Looks up the profiles with the given unique ids.
+     *
+     * @param uniqueIds The unique ids
+     * @return The profiles found, by unique id
+     * @throws Exception If the lookup failed
+     */
+    Map<UUID, Optional<GameProfile>> lookupByIds(Collection<UUID> uniqueIds) throws Exception;
 
-    @Override
-    public long getCacheKey() {
-        return this.cacheKey;
-    }
+    /**
+     * Looks up the profiles with the given names. Names are matched case
+     * insensitively, so the returned profiles may differ in case.
+     *
+     * @param names The names
+     * @return The profiles found
+     * @throws Exception If the lookup failed
+     */
+    Collection<GameProfile> lookupByNames(Collection<String> names) throws Exception;
 
-    @Override
-    public void setCacheKey(long key) {
-        this.cacheKey = key;
-    }
 }
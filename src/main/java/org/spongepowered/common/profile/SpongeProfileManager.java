@@ -26,28 +26,63 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import net.minecraft.server.MinecraftServer;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.profile.GameProfileCache;
 import org.spongepowered.api.profile.GameProfileManager;
+import org.spongepowered.api.profile.ProfileNotFoundException;
 import org.spongepowered.api.profile.property.ProfileProperty;
 import org.spongepowered.common.profile.query.GameProfileQuery;
-import org.spongepowered.common.profile.query.NameQuery;
-import org.spongepowered.common.profile.query.UniqueIdQuery;
 import org.spongepowered.common.scheduler.SpongeScheduler;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
 public final class SpongeProfileManager implements GameProfileManager {
 
+    // Lookups made within this window are sent to the backend together
+    private static final long BATCH_WINDOW_MILLIS = 50;
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final ScheduledExecutorService BATCH_TIMER = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("Sponge Profile Batcher").setDaemon(true).build());
+    private static final Executor LOOKUP_EXECUTOR = task -> {
+        final CompletableFuture<Object> future = SpongeScheduler.getInstance().submitAsyncTask(Executors.callable(task));
+        // Lookups handle their own failures, so the future only fails if the async pool rejected the lookup
+        if (future.isCompletedExceptionally()) {
+            future.join();
+        }
+    };
+
     private final GameProfileCache defaultCache = (GameProfileCache) ((MinecraftServer) Sponge.getServer()).getPlayerProfileCache();
     private GameProfileCache cache = this.defaultCache;
+    @Nullable private ProfileLookupBackend backend;
+
+    private final BatchingResolver<UUID, Optional<GameProfile>> idResolver = createResolver(ids -> this.lookupByIds(ids, true));
+    private final BatchingResolver<UUID, Optional<GameProfile>> uncachedIdResolver = createResolver(ids -> this.lookupByIds(ids, false));
+    // Names are resolved in lower case, as they are case insensitive
+    private final BatchingResolver<String, Optional<GameProfile>> nameResolver = createResolver(names -> this.lookupByNames(names, true));
+    private final BatchingResolver<String, Optional<GameProfile>> uncachedNameResolver = createResolver(names -> this.lookupByNames(names, false));
+
+    private static <K> BatchingResolver<K, Optional<GameProfile>> createResolver(BatchingResolver.BatchLookup<K, Optional<GameProfile>> lookup) {
+        return new BatchingResolver<>(lookup, Optional.empty(), BATCH_TIMER, LOOKUP_EXECUTOR, BATCH_WINDOW_MILLIS, MAX_BATCH_SIZE);
+    }
 
     @Override
     public GameProfile createProfile(UUID uniqueId, @Nullable String name) {
@@ -62,22 +97,35 @@ public ProfileProperty createProfileProperty(String name, String value, @Nullabl
 
     @Override
     public CompletableFuture<GameProfile> get(UUID uniqueId, final boolean useCache) {
-        return this.submitTask(new UniqueIdQuery.SingleGet(this.cache, checkNotNull(uniqueId, "unique id"), useCache));
+        checkNotNull(uniqueId, "unique id");
+        return this.resolve(uniqueId, useCache).thenApply(profile -> profile.orElseGet(() -> this.createProfile(uniqueId, null)));
     }
 
     @Override
     public CompletableFuture<Collection<GameProfile>> getAllById(Iterable<UUID> uniqueIds, boolean useCache) {
-        return this.submitTask(new UniqueIdQuery.MultiGet(this.cache, checkNotNull(uniqueIds, "unique ids"), useCache));
+        checkNotNull(uniqueIds, "unique ids");
+        List<CompletableFuture<Optional<GameProfile>>> futures = new ArrayList<>();
+        for (UUID uniqueId : uniqueIds) {
+            futures.add(this.resolve(uniqueId, useCache));
+        }
+        return allPresent(futures);
     }
 
     @Override
     public CompletableFuture<GameProfile> get(String name, boolean useCache) {
-        return this.submitTask(new NameQuery.SingleGet(this.cache, checkNotNull(name, "name"), useCache));
+        checkNotNull(name, "name");
+        return this.resolve(name, useCache).thenApply(profile -> profile.orElseThrow(
+                () -> new CompletionException(new ProfileNotFoundException("Profile: " + name))));
     }
 
     @Override
     public CompletableFuture<Collection<GameProfile>> getAllByName(Iterable<String> names, boolean useCache) {
-        return this.submitTask(new NameQuery.MultiGet(this.cache, checkNotNull(names, "names"), useCache));
+        checkNotNull(names, "names");
+        List<CompletableFuture<Optional<GameProfile>>> futures = new ArrayList<>();
+        for (String name : names) {
+            futures.add(this.resolve(name, useCache));
+        }
+        return allPresent(futures);
     }
 
     @Override
@@ -100,6 +148,100 @@ public GameProfileCache getDefaultCache() {
         return this.defaultCache;
     }
 
+    /**
+     * Sets the backend used to look up profiles that are not cached. By
+     * default, lookups go through the current cache.
+     *
+     * @param backend The backend, or null to look up through the cache
+     */
+    public void setLookupBackend(@Nullable ProfileLookupBackend backend) {
+        this.backend = backend;
+    }
+
+    private CompletableFuture<Optional<GameProfile>> resolve(UUID uniqueId, boolean useCache) {
+        if (useCache) {
+            // Cached profiles don't need to wait for the batch window
+            final Optional<GameProfile> profile = this.cache.getById(uniqueId);
+            return profile.isPresent() ? CompletableFuture.completedFuture(profile) : this.idResolver.resolve(uniqueId);
+        }
+        return this.uncachedIdResolver.resolve(uniqueId);
+    }
+
+    private CompletableFuture<Optional<GameProfile>> resolve(String name, boolean useCache) {
+        if (useCache) {
+            final Optional<GameProfile> profile = this.cache.getByName(name);
+            return profile.isPresent() ? CompletableFuture.completedFuture(profile) : this.nameResolver.resolve(name.toLowerCase(Locale.ROOT));
+        }
+        return this.uncachedNameResolver.resolve(name.toLowerCase(Locale.ROOT));
+    }
+
+    private static CompletableFuture<Collection<GameProfile>> allPresent(List<CompletableFuture<Optional<GameProfile>>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()]))
+                .thenApply(v -> futures.stream()
+                        .map(CompletableFuture::join)
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .collect(Collectors.toList()));
+    }
+
+    private Map<UUID, Optional<GameProfile>> lookupByIds(Collection<UUID> uniqueIds, boolean useCache) throws Exception {
+        final GameProfileCache cache = this.cache;
+        final Map<UUID, Optional<GameProfile>> result = new HashMap<>();
+        final List<UUID> pending = new ArrayList<>();
+        for (UUID uniqueId : uniqueIds) {
+            Optional<GameProfile> profile = useCache ? cache.getById(uniqueId) : Optional.empty();
+            if (profile.isPresent()) {
+                result.put(uniqueId, profile);
+            } else {
+                pending.add(uniqueId);
+            }
+        }
+        if (!pending.isEmpty()) {
+            final ProfileLookupBackend backend = this.backend;
+            if (backend == null) {
+                // The cache adds what it looks up to itself
+                result.putAll(cache.lookupByIds(pending));
+            } else {
+                Map<UUID, Optional<GameProfile>> found = backend.lookupByIds(pending);
+                found.values().forEach(profile -> profile.ifPresent(p -> cache.add(p, true, null)));
+                result.putAll(found);
+            }
+        }
+        return result;
+    }
+
+    private Map<String, Optional<GameProfile>> lookupByNames(Collection<String> names, boolean useCache) throws Exception {
+        final GameProfileCache cache = this.cache;
+        final Map<String, Optional<GameProfile>> result = new HashMap<>();
+        final List<String> pending = new ArrayList<>();
+        for (String name : names) {
+            Optional<GameProfile> profile = useCache ? cache.getByName(name) : Optional.empty();
+            if (profile.isPresent()) {
+                result.put(name, profile);
+            } else {
+                pending.add(name);
+            }
+        }
+        if (!pending.isEmpty()) {
+            final ProfileLookupBackend backend = this.backend;
+            final Collection<GameProfile> found;
+            if (backend == null) {
+                found = cache.lookupByNames(pending).values().stream()
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .collect(Collectors.toList());
+            } else {
+                found = backend.lookupByNames(pending);
+                found.forEach(profile -> cache.add(profile, true, null));
+            }
+            // The returned names may be capitalized differently
+            for (GameProfile profile : found) {
+                profile.getName().ifPresent(name -> result.put(name.toLowerCase(Locale.ROOT), Optional.of(profile)));
+            }
+        }
+        return result;
+    }
+
     private <T> CompletableFuture<T> submitTask(Callable<T> callable) {
         return SpongeScheduler.getInstance().submitAsyncTask(callable);
     }
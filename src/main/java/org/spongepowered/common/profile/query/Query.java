@@ -32,9 +32,7 @@
 import org.spongepowered.api.util.Identifiable;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
@@ -42,7 +40,6 @@
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 public abstract class Query<V> implements Callable<V> {
 
@@ -54,13 +51,6 @@ public Query(GameProfileCache cache, boolean useCache) {
         this.useCache = useCache;
     }
 
-    protected List<GameProfile> fromUniqueIds(Collection<UUID> uniqueIds) throws ProfileNotFoundException {
-        if (this.useCache) {
-            return this.cache.getOrLookupByIds(uniqueIds).values().stream().filter(Optional::isPresent).map(Optional::get).collect(Collectors.toList());
-        }
-        return this.cache.lookupByIds(uniqueIds).values().stream().filter(Optional::isPresent).map(Optional::get).collect(Collectors.toList());
-    }
-
     protected GameProfile fillProfile(GameProfile profile, boolean signed) throws ProfileNotFoundException {
         if (this.useCache) {
             Optional<GameProfile> result = this.cache.getById(profile.getUniqueId());
@@ -81,11 +71,4 @@ protected GameProfile fillProfile(GameProfile profile, boolean signed) throws Pr
         }
     }
 
-    protected List<GameProfile> fromNames(Collection<String> names) throws ProfileNotFoundException {
-        if (this.useCache) {
-            return this.cache.getOrLookupByNames(names).values().stream().filter(Optional::isPresent).map(Optional::get).collect(Collectors.toList());
-        }
-        return this.cache.lookupByNames(names).values().stream().filter(Optional::isPresent).map(Optional::get).collect(Collectors.toList());
-    }
-
 }
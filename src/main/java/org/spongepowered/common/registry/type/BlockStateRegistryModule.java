@@ -56,8 +56,9 @@ public Collection<BlockState> getAll() {
 
     void registerBlockState(BlockState blockState) {
         checkNotNull(blockState, "BlockState cannot be null!");
-        if (!this.blockStateMap.containsKey(blockState.getId().toLowerCase(Locale.ENGLISH))) {
-            this.blockStateMap.put(blockState.getId().toLowerCase(Locale.ENGLISH), blockState);
+        final String id = blockState.getId().toLowerCase(Locale.ENGLISH);
+        if (!this.blockStateMap.containsKey(id)) {
+            this.blockStateMap.put(id, blockState);
         }
     }
 
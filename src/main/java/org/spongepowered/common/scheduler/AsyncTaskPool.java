@@ -0,0 +1,319 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.config.category.SchedulerCategory;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * The bounded thread pool running all asynchronous tasks, metered per
+ * owning plugin.
+ *
+ * <p>Every submission is attributed to a plugin. Plugins with a configured
+ * concurrency limit get a backlog of their own, so a single plugin can never
+ * occupy more than its share of worker threads or fill the shared queue. A
+ * backlog holds at most as many tasks as the shared queue.</p>
+ *
+ * <p>Rejected tasks are never run on the server thread. Under the caller
+ * runs policy they are handed to the async scheduler thread instead.</p>
+ */
+public final class AsyncTaskPool {
+
+    private final ThreadPoolExecutor executor;
+    private final SchedulerCategory.RejectionPolicy rejectionPolicy;
+    // Whether a task rejected under caller runs must not run on the current thread
+    private final BooleanSupplier deferCallerRuns;
+    // Wakes up the thread running deferred tasks
+    private final Runnable onDeferred;
+    private final BlockingQueue<Runnable> deferred;
+    private final int backlogCapacity;
+    private final Map<String, Integer> pluginLimits;
+    private final Map<String, PluginMetrics> metrics = new ConcurrentHashMap<>();
+
+    AsyncTaskPool(SchedulerCategory config, BooleanSupplier deferCallerRuns, Runnable onDeferred) {
+        final int poolSize = Math.max(1, config.getAsyncMaxPoolSize());
+        final int queueSize = Math.max(1, config.getAsyncQueueSize());
+        this.rejectionPolicy = config.getAsyncRejectionPolicy();
+        this.deferCallerRuns = deferCallerRuns;
+        this.onDeferred = onDeferred;
+        this.deferred = new LinkedBlockingQueue<>(queueSize);
+        this.backlogCapacity = queueSize;
+        this.pluginLimits = Collections.unmodifiableMap(new ConcurrentHashMap<>(config.getAsyncPluginLimits()));
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                new ThreadFactoryBuilder().setNameFormat("Sponge Async Worker #%d").setDaemon(true).build());
+        // Like a cached pool a thread is started for every task until the limit is reached, the queue only
+        // fills up once all threads are busy. Idle threads are stopped again after the keep alive time.
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    private void reject(MeteredTask task, RejectedExecutionException e) {
+        task.metrics.rejected.incrementAndGet();
+        if (this.rejectionPolicy == SchedulerCategory.RejectionPolicy.CALLER_RUNS && !this.executor.isShutdown()) {
+            if (!this.deferCallerRuns.getAsBoolean()) {
+                task.delegate.run();
+                return;
+            }
+            if (this.deferred.offer(task.delegate)) {
+                this.onDeferred.run();
+                return;
+            }
+        }
+        task.onRejected.accept(e);
+    }
+
+    /**
+     * Runs all tasks the rejection policy made the caller run, but which
+     * could not run on the submitting thread.
+     */
+    void runDeferred() {
+        Runnable runnable;
+        while ((runnable = this.deferred.poll()) != null) {
+            runnable.run();
+        }
+    }
+
+    SchedulerCategory.RejectionPolicy getRejectionPolicy() {
+        return this.rejectionPolicy;
+    }
+
+    /**
+     * Runs the runnable on the pool on behalf of the plugin.
+     *
+     * <p>If the pool or the plugin's backlog is full and the rejection policy
+     * doesn't make the caller run the runnable, it is dropped and the
+     * rejection handler is called instead. This may happen on any thread, as
+     * tasks waiting in a plugin backlog are only submitted once a previous
+     * one finished.</p>
+     *
+     * @param owner The owning plugin
+     * @param runnable The runnable to run
+     * @param onRejected The handler called if the runnable is dropped
+     */
+    void execute(PluginContainer owner, Runnable runnable, Consumer<RejectedExecutionException> onRejected) {
+        final PluginMetrics pluginMetrics = this.getMetrics(owner);
+        final MeteredTask task = new MeteredTask(pluginMetrics, runnable, onRejected);
+        pluginMetrics.submitted.incrementAndGet();
+        if (pluginMetrics.limit <= 0) {
+            this.dispatch(task);
+        } else {
+            pluginMetrics.enqueue(task);
+        }
+    }
+
+    /**
+     * Hands the task to the executor, or to the rejection policy if the
+     * executor is saturated.
+     *
+     * @return Whether the executor accepted the task
+     */
+    private boolean dispatch(MeteredTask task) {
+        try {
+            this.executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            this.reject(task, e);
+            return false;
+        }
+    }
+
+    private PluginMetrics getMetrics(PluginContainer owner) {
+        return this.metrics.computeIfAbsent(owner.getId(), id -> new PluginMetrics(id, this.pluginLimits.getOrDefault(id, 0)));
+    }
+
+    public int getActiveThreads() {
+        return this.executor.getActiveCount();
+    }
+
+    public int getPoolSize() {
+        return this.executor.getPoolSize();
+    }
+
+    public int getMaximumPoolSize() {
+        return this.executor.getMaximumPoolSize();
+    }
+
+    public int getQueueDepth() {
+        return this.executor.getQueue().size();
+    }
+
+    public int getQueueCapacity() {
+        return this.executor.getQueue().size() + this.executor.getQueue().remainingCapacity();
+    }
+
+    public long getCompletedTasks() {
+        return this.executor.getCompletedTaskCount();
+    }
+
+    public Map<String, PluginMetrics> getPluginMetrics() {
+        return Collections.unmodifiableMap(this.metrics);
+    }
+
+    private final class MeteredTask implements Runnable {
+
+        final PluginMetrics metrics;
+        final Runnable delegate;
+        final Consumer<RejectedExecutionException> onRejected;
+        private final long queuedAt = System.nanoTime();
+
+        MeteredTask(PluginMetrics metrics, Runnable delegate, Consumer<RejectedExecutionException> onRejected) {
+            this.metrics = metrics;
+            this.delegate = delegate;
+            this.onRejected = onRejected;
+        }
+
+        @Override
+        public void run() {
+            final long start = System.nanoTime();
+            this.metrics.waitTime.addAndGet(start - this.queuedAt);
+            this.metrics.active.incrementAndGet();
+            try {
+                this.delegate.run();
+            } finally {
+                this.metrics.runTime.addAndGet(System.nanoTime() - start);
+                this.metrics.active.decrementAndGet();
+                this.metrics.completed.incrementAndGet();
+                this.metrics.release();
+            }
+        }
+    }
+
+    /**
+     * The counters of all async work submitted by a single plugin. Times are
+     * accumulated in nanoseconds.
+     */
+    public final class PluginMetrics {
+
+        private final String pluginId;
+        final int limit;
+        final AtomicLong submitted = new AtomicLong();
+        final AtomicLong completed = new AtomicLong();
+        final AtomicLong rejected = new AtomicLong();
+        final AtomicLong waitTime = new AtomicLong();
+        final AtomicLong runTime = new AtomicLong();
+        final AtomicInteger active = new AtomicInteger();
+        // Only used when limited, guarded by this
+        private final Queue<MeteredTask> backlog = new ArrayDeque<>();
+        private int running;
+
+        PluginMetrics(String pluginId, int limit) {
+            this.pluginId = pluginId;
+            this.limit = limit;
+        }
+
+        void enqueue(MeteredTask task) {
+            boolean backlogFull = false;
+            synchronized (this) {
+                if (this.running >= this.limit) {
+                    if (this.backlog.size() < AsyncTaskPool.this.backlogCapacity) {
+                        this.backlog.add(task);
+                        return;
+                    }
+                    backlogFull = true;
+                } else {
+                    this.running++;
+                }
+            }
+            if (backlogFull) {
+                AsyncTaskPool.this.reject(task, new RejectedExecutionException("The async backlog of " + this.pluginId + " is full"));
+            } else if (!AsyncTaskPool.this.dispatch(task)) {
+                this.release();
+            }
+        }
+
+        void release() {
+            if (this.limit <= 0) {
+                return;
+            }
+            // The slot is handed over to the next task in the backlog, skipping those the executor rejects
+            while (true) {
+                final MeteredTask next;
+                synchronized (this) {
+                    next = this.backlog.poll();
+                    if (next == null) {
+                        this.running--;
+                        return;
+                    }
+                }
+                if (AsyncTaskPool.this.dispatch(next)) {
+                    return;
+                }
+            }
+        }
+
+        public String getPluginId() {
+            return this.pluginId;
+        }
+
+        public int getLimit() {
+            return this.limit;
+        }
+
+        public long getSubmitted() {
+            return this.submitted.get();
+        }
+
+        public long getCompleted() {
+            return this.completed.get();
+        }
+
+        public long getRejected() {
+            return this.rejected.get();
+        }
+
+        public int getActive() {
+            return this.active.get();
+        }
+
+        public synchronized int getBacklog() {
+            return this.backlog.size();
+        }
+
+        public long getTotalWaitTime() {
+            return this.waitTime.get();
+        }
+
+        public long getTotalRunTime() {
+            return this.runTime.get();
+        }
+    }
+}
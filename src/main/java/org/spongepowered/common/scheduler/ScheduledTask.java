@@ -32,6 +32,8 @@
 import java.util.function.Consumer;
 import java.util.concurrent.TimeUnit;
 
+import javax.annotation.Nullable;
+
 /**
  * An internal representation of a {@link Task} created by a plugin.
  */
@@ -44,6 +46,10 @@ public class ScheduledTask implements Task {
     private final PluginContainer owner;
     private final Consumer<Task> consumer;
     private long timestamp;
+    // The timestamp this task is ordered by in its scheduler's queue
+    long deadline;
+    // The scheduler the task was submitted to
+    @Nullable SchedulerBase scheduler;
     private ScheduledTaskState state;
     private final UUID id;
     private final String name;
@@ -129,7 +135,11 @@ public boolean cancel() {
         if (this.getState() != ScheduledTask.ScheduledTaskState.RUNNING) {
             success = true;
         }
+        final boolean wasCancelled = this.getState() == ScheduledTask.ScheduledTaskState.CANCELED;
         this.setState(ScheduledTask.ScheduledTaskState.CANCELED);
+        if (!wasCancelled && this.scheduler != null) {
+            this.scheduler.onTaskCancelled(this);
+        }
         return success;
     }
 
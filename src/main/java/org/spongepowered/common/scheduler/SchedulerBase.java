@@ -30,15 +30,32 @@
 import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.common.SpongeImpl;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 abstract class SchedulerBase {
 
+    private static final Comparator<ScheduledTask> DEADLINE_ORDER = (first, second) -> Long.signum(first.deadline - second.deadline);
+
     // The simple queue of all pending (and running) ScheduledTasks
     private final Map<UUID, ScheduledTask> taskMap = Maps.newConcurrentMap();
+    // Tasks submitted since the last tick, drained by the scheduler thread
+    private final Queue<ScheduledTask> submittedTasks = new ConcurrentLinkedQueue<>();
+    // Deadline ordered queues, only touched by the scheduler thread
+    private final PriorityQueue<ScheduledTask> tickQueue = new PriorityQueue<>(DEADLINE_ORDER);
+    private final PriorityQueue<ScheduledTask> timeQueue = new PriorityQueue<>(DEADLINE_ORDER);
+    private final List<ScheduledTask> rescheduledTasks = new ArrayList<>();
+    // The number of tasks cancelled since the queues were last purged
+    private final AtomicInteger cancelledTasks = new AtomicInteger();
     private long sequenceNumber = 0L;
     private final String taskNameFmt;
 
@@ -65,6 +82,18 @@ protected long getTimestamp(ScheduledTask task) {
         return System.nanoTime();
     }
 
+    /**
+     * Gets whether the delay (if the task is still waiting) or the interval of
+     * the task is measured in ticks rather than real time.
+     *
+     * @param task The task
+     * @param waiting Whether the task has not run yet
+     * @return Whether the timestamps of the task are tick based
+     */
+    protected boolean isTickBased(ScheduledTask task, boolean waiting) {
+        return false;
+    }
+
     /**
      * Adds the task to the task map, will attempt to process the task on the
      * next call to {@link #runTick}.
@@ -72,8 +101,11 @@ protected long getTimestamp(ScheduledTask task) {
      * @param task The task to add
      */
     protected void addTask(ScheduledTask task) {
+        task.scheduler = this;
         task.setTimestamp(this.getTimestamp(task));
+        task.deadline = task.getTimestamp() + task.offset;
         this.taskMap.put(task.getUniqueId(), task);
+        this.submittedTasks.add(task);
     }
 
     /**
@@ -85,23 +117,107 @@ protected void removeTask(ScheduledTask task) {
         this.taskMap.remove(task.getUniqueId());
     }
 
+    /**
+     * Called when a task of this scheduler is cancelled, from any thread.
+     *
+     * @param task The cancelled task
+     */
+    void onTaskCancelled(ScheduledTask task) {
+        this.removeTask(task);
+        this.cancelledTasks.incrementAndGet();
+    }
+
+    /**
+     * Gets the number of tasks in the deadline queues, including cancelled
+     * tasks that were not removed yet. Must only be called from the
+     * scheduler thread.
+     *
+     * @return The number of queued tasks
+     */
+    int getQueuedTaskCount() {
+        return this.tickQueue.size() + this.timeQueue.size();
+    }
+
     protected Optional<Task> getTask(UUID id) {
-        return Optional.<Task>ofNullable(this.taskMap.get(id));
+        ScheduledTask task = this.taskMap.get(id);
+        if (task == null || task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
+            return Optional.empty();
+        }
+        return Optional.of(task);
     }
 
     protected Set<Task> getScheduledTasks() {
-        synchronized (this.taskMap) {
-            return Sets.<Task>newHashSet(this.taskMap.values());
+        Set<Task> tasks = Sets.newHashSet();
+        for (ScheduledTask task : this.taskMap.values()) {
+            if (task.getState() != ScheduledTask.ScheduledTaskState.CANCELED) {
+                tasks.add(task);
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Moves all tasks submitted since the last call into their deadline
+     * queue. Must only be called from the scheduler thread.
+     *
+     * @return Whether any task was submitted
+     */
+    protected final boolean enqueueSubmittedTasks() {
+        boolean submitted = false;
+        ScheduledTask task;
+        while ((task = this.submittedTasks.poll()) != null) {
+            this.queueFor(task, true).add(task);
+            submitted = true;
+        }
+        this.purgeCancelledTasks();
+        return submitted;
+    }
+
+    /**
+     * Removes cancelled tasks from the deadline queues once they could make
+     * up half of the queued tasks. Cancelled tasks are otherwise only dropped
+     * when their deadline is reached, so tasks cancelled long before it
+     * would pile up.
+     */
+    private void purgeCancelledTasks() {
+        final int cancelled = this.cancelledTasks.get();
+        if (cancelled == 0 || cancelled * 2 < this.getQueuedTaskCount()) {
+            return;
         }
+        this.cancelledTasks.addAndGet(-cancelled);
+        this.tickQueue.removeIf(SchedulerBase::isCancelled);
+        this.timeQueue.removeIf(SchedulerBase::isCancelled);
+    }
+
+    private static boolean isCancelled(ScheduledTask task) {
+        return task.getState() == ScheduledTask.ScheduledTaskState.CANCELED;
+    }
+
+    /**
+     * Gets the earliest real time deadline of all queued tasks. Must only be
+     * called from the scheduler thread.
+     *
+     * @return The earliest deadline, or {@link Long#MAX_VALUE} if none
+     */
+    protected final long getNextTimeDeadline() {
+        final ScheduledTask task = this.timeQueue.peek();
+        return task == null ? Long.MAX_VALUE : task.deadline;
+    }
+
+    private PriorityQueue<ScheduledTask> queueFor(ScheduledTask task, boolean waiting) {
+        return this.isTickBased(task, waiting) ? this.tickQueue : this.timeQueue;
     }
 
     /**
-     * Process all tasks in the map.
+     * Process all tasks that are due, only the heads of the deadline queues
+     * are inspected.
      */
     protected final void runTick() {
         this.preTick();
         try {
-            this.taskMap.values().forEach(this::processTask);
+            this.enqueueSubmittedTasks();
+            this.processQueue(this.tickQueue);
+            this.processQueue(this.timeQueue);
             this.postTick();
         } finally {
             this.finallyPostTick();
@@ -127,41 +243,53 @@ protected void postTick() {
     protected void finallyPostTick() {
     }
 
+    private void processQueue(PriorityQueue<ScheduledTask> queue) {
+        try {
+            ScheduledTask task;
+            while ((task = queue.peek()) != null) {
+                // If the task is now slated to be cancelled, we just remove it as if it
+                // no longer exists.
+                if (isCancelled(task)) {
+                    queue.poll();
+                    this.removeTask(task);
+                    continue;
+                }
+                // All tasks of a queue share the same kind of timestamp, so the
+                // queue head being in the future means nothing else is due.
+                if (task.deadline - this.getTimestamp(task) > 0) {
+                    break;
+                }
+                queue.poll();
+                this.processTask(task);
+            }
+        } finally {
+            // Repeating tasks are queued again only after the pass, so each task
+            // runs at most once per tick.
+            for (ScheduledTask task : this.rescheduledTasks) {
+                this.queueFor(task, false).add(task);
+            }
+            this.rescheduledTasks.clear();
+        }
+    }
+
     /**
-     * Processes the task.
+     * Processes a task whose deadline has passed.
      *
      * @param task The task to process
      */
     protected void processTask(ScheduledTask task) {
-        // If the task is now slated to be cancelled, we just remove it as if it
-        // no longer exists.
-        if (task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
-            this.removeTask(task);
-            return;
-        }
-        long threshold = Long.MAX_VALUE;
-        // Figure out if we start a delayed Task after threshold ticks or, start
-        // it after the interval (period) of the repeating task parameter.
-        if (task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.offset;
-        } else if (task.getState() == ScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.period;
-        }
-        // This moment is 'now'
-        long now = this.getTimestamp(task);
-        // So, if the current time minus the timestamp of the task is greater
-        // than the delay to wait before starting the task, then start the task.
         // Repeating tasks get a reset-timestamp each time they are set RUNNING
         // If the task has a period of 0 (zero) this task will not repeat, and
         // is removed after we start it.
-        if (threshold <= (now - task.getTimestamp())) {
-            task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
-            task.setTimestamp(this.getTimestamp(task));
-            startTask(task);
-            // If task is one time shot, remove it from the map.
-            if (task.period == 0L) {
-                this.removeTask(task);
-            }
+        task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
+        task.setTimestamp(this.getTimestamp(task));
+        final long timestamp = task.getTimestamp();
+        startTask(task);
+        if (task.period == 0L) {
+            this.removeTask(task);
+        } else {
+            task.deadline = timestamp + task.period;
+            this.rescheduledTasks.add(task);
         }
     }
 
@@ -171,7 +299,7 @@ protected void processTask(ScheduledTask task) {
      * @param task The task to start
      */
     protected void startTask(final ScheduledTask task) {
-        this.executeTaskRunnable(() -> {
+        this.executeTaskRunnable(task, () -> {
             task.setState(ScheduledTask.ScheduledTaskState.RUNNING);
             try {
                 task.getConsumer().accept(task);
@@ -185,8 +313,9 @@ protected void startTask(final ScheduledTask task) {
     /**
      * Actually run the runnable that will begin the task
      *
+     * @param task The task being started
      * @param runnable The runnable to run
      */
-    protected abstract void executeTaskRunnable(Runnable runnable);
+    protected abstract void executeTaskRunnable(ScheduledTask task, Runnable runnable);
 
 }
@@ -34,7 +34,6 @@
 import org.spongepowered.api.scheduler.Scheduler;
 import org.spongepowered.api.scheduler.SpongeExecutorService;
 import org.spongepowered.api.scheduler.Task;
-import org.spongepowered.api.util.Functional;
 import org.spongepowered.common.SpongeImpl;
 
 import java.util.Iterator;
@@ -192,6 +191,25 @@ public void tickSyncScheduler() {
     }
 
     public <T> CompletableFuture<T> submitAsyncTask(Callable<T> callable) {
-        return Functional.asyncFailableFuture(callable, this.asyncScheduler.getExecutor());
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        // A rejected callable is never called, its future fails instead of never completing
+        this.asyncScheduler.getTaskPool().execute(SpongeImpl.getPlugin(), () -> {
+            try {
+                future.complete(callable.call());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }, future::completeExceptionally);
+        return future;
+    }
+
+    /**
+     * Gets the pool running all asynchronous tasks, used to report its
+     * metrics.
+     *
+     * @return The async task pool
+     */
+    public AsyncTaskPool getAsyncTaskPool() {
+        return this.asyncScheduler.getTaskPool();
     }
 }
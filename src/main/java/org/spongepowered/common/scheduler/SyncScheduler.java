@@ -45,24 +45,21 @@ void tick() {
     protected long getTimestamp(ScheduledTask task) {
         if (task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
             // The timestamp is based on the initial offset
-            if (task.delayIsTicks) {
-                return this.counter;
-            } else {
-                return super.getTimestamp(task);
-            }
+            return this.isTickBased(task, true) ? this.counter : super.getTimestamp(task);
         } else if (task.getState().isActive) {
             // The timestamp is based on the period
-            if (task.intervalIsTicks) {
-                return this.counter;
-            } else {
-                return super.getTimestamp(task);
-            }
+            return this.isTickBased(task, false) ? this.counter : super.getTimestamp(task);
         }
         return 0L;
     }
 
     @Override
-    protected void executeTaskRunnable(Runnable runnable) {
+    protected boolean isTickBased(ScheduledTask task, boolean waiting) {
+        return waiting ? task.delayIsTicks : task.intervalIsTicks;
+    }
+
+    @Override
+    protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
         runnable.run();
     }
 
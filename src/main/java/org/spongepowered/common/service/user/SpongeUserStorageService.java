@@ -36,6 +36,7 @@
 import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public class SpongeUserStorageService implements UserStorageService {
 
@@ -46,6 +47,43 @@ public Optional<User> get(UUID uniqueId) {
         return Optional.ofNullable(UserDiscoverer.findByUuid(checkNotNull(uniqueId, "uniqueId")));
     }
 
+    /**
+     * Gets the data of a user without reading stored data on the calling
+     * thread.
+     *
+     * @param uniqueId The UUID of the user
+     * @return The user, or empty if not found
+     */
+    public CompletableFuture<Optional<User>> getAsync(UUID uniqueId) {
+        return UserDiscoverer.findByUuidAsync(checkNotNull(uniqueId, "uniqueId"));
+    }
+
+    /**
+     * Starts loading the stored data of a user in the background, so that a
+     * later lookup for it doesn't have to wait on disk.
+     *
+     * @param uniqueId The UUID of the user
+     */
+    public void prefetch(UUID uniqueId) {
+        UserDiscoverer.prefetch(checkNotNull(uniqueId, "uniqueId"));
+    }
+
+    /**
+     * Gets or creates a user without reading stored data on the calling
+     * thread. A user whose data is still being loaded is returned without
+     * that data, and changes to it are not saved.
+     *
+     * @param uniqueId The UUID of the user
+     * @return The user
+     */
+    public User getOrCreateWithoutBlocking(UUID uniqueId) {
+        User user = UserDiscoverer.findWithoutBlocking(checkNotNull(uniqueId, "uniqueId"));
+        if (user != null) {
+            return user;
+        }
+        return UserDiscoverer.create(new com.mojang.authlib.GameProfile(uniqueId, null));
+    }
+
     @Override
     public Optional<User> get(String lastKnownName) {
         checkNotNull(lastKnownName, "lastKnownName");
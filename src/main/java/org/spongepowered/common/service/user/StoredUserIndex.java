@@ -0,0 +1,110 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.user;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import net.minecraft.world.storage.SaveHandler;
+import org.spongepowered.common.world.DimensionManager;
+
+import java.io.File;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.annotation.Nullable;
+
+/**
+ * Tracks which users have a data file in the overworld's
+ * {@code playerdata} folder, so lookups don't have to list the folder.
+ *
+ * <p>The folder is listed once, the first time the index is used, and the
+ * index is then kept up to date as player and user data is saved or
+ * deleted.</p>
+ */
+public final class StoredUserIndex {
+
+    private static final Set<UUID> storedUsers = Sets.newConcurrentHashSet();
+    @Nullable private static volatile File playersDirectory;
+
+    private StoredUserIndex() {
+    }
+
+    /**
+     * Records that the data file of a user was written.
+     *
+     * @param uniqueId The unique id of the user
+     */
+    public static void onDataSaved(UUID uniqueId) {
+        getPlayersDirectory();
+        storedUsers.add(uniqueId);
+    }
+
+    static void onDataDeleted(UUID uniqueId) {
+        storedUsers.remove(uniqueId);
+    }
+
+    static boolean hasStoredData(UUID uniqueId) {
+        getPlayersDirectory();
+        return storedUsers.contains(uniqueId);
+    }
+
+    static Set<UUID> getStoredUsers() {
+        getPlayersDirectory();
+        return ImmutableSet.copyOf(storedUsers);
+    }
+
+    @Nullable
+    static File getDataFile(UUID uniqueId) {
+        File directory = getPlayersDirectory();
+        return storedUsers.contains(uniqueId) ? new File(directory, uniqueId + ".dat") : null;
+    }
+
+    private static File getPlayersDirectory() {
+        File directory = playersDirectory;
+        if (directory == null) {
+            synchronized (StoredUserIndex.class) {
+                directory = playersDirectory;
+                if (directory == null) {
+                    // Note: Uses the overworld's player data
+                    SaveHandler saveHandler = (SaveHandler) DimensionManager.getWorldFromDimId(0).getSaveHandler();
+                    for (String playerUuid : saveHandler.getAvailablePlayerDat()) {
+                        // Some mods store other files in the 'playerdata' folder, so
+                        // we need to ensure that the filename is a valid UUID
+                        if (playerUuid.split("-").length != 5) {
+                            continue;
+                        }
+                        try {
+                            storedUsers.add(UUID.fromString(playerUuid));
+                        } catch (IllegalArgumentException ignored) {
+                            // Not a player data file
+                        }
+                    }
+                    directory = playersDirectory = saveHandler.playersDirectory;
+                }
+            }
+        }
+        return directory;
+    }
+}
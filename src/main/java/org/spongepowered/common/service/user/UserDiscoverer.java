@@ -29,40 +29,43 @@
 import com.google.common.collect.Sets;
 import com.mojang.authlib.GameProfile;
 import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.management.BanEntry;
-import net.minecraft.server.management.PlayerProfileCache;
 import net.minecraft.server.management.ServerConfigurationManager;
 import net.minecraft.server.management.UserListBans;
 import net.minecraft.server.management.UserListBansEntry;
 import net.minecraft.server.management.UserListWhitelist;
 import net.minecraft.server.management.UserListWhitelistEntry;
-import net.minecraft.world.storage.SaveHandler;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.api.profile.GameProfileCache;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.entity.player.SpongeUser;
 import org.spongepowered.common.interfaces.entity.player.IMixinEntityPlayerMP;
-import org.spongepowered.common.world.DimensionManager;
+import org.spongepowered.common.scheduler.SpongeScheduler;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
+import javax.annotation.Nullable;
+
 class UserDiscoverer {
 
     private static final Cache<UUID, User> userCache = CacheBuilder.newBuilder()
             .expireAfterAccess(1, TimeUnit.DAYS)
             .build();
+    private static final ConcurrentMap<UUID, CompletableFuture<Optional<User>>> pendingLoads = new ConcurrentHashMap<>();
 
     static User create(GameProfile profile) {
         User user = (User) new SpongeUser(profile);
@@ -100,14 +103,102 @@ static User findByUuid(UUID uniqueId) {
         return user;
     }
 
-    static User findByUsername(String username) {
-        PlayerProfileCache cache = MinecraftServer.getServer().getPlayerProfileCache();
-        HashSet<String> names = Sets.newHashSet(cache.getUsernames());
-        if (names.contains(username.toLowerCase(Locale.ROOT))) {
-            GameProfile profile = cache.getGameProfileForUsername(username);
-            if (profile != null) {
-                return findByUuid(profile.getId());
+    /**
+     * Searches for user data like {@link #findByUuid(UUID)}, but reads stored
+     * data off the main thread. Lookups for the same user while one is in
+     * progress share its result.
+     *
+     * @param uniqueId The user's UUID
+     * @return The user data, or empty if not found
+     */
+    static CompletableFuture<Optional<User>> findByUuidAsync(UUID uniqueId) {
+        User user = userCache.getIfPresent(uniqueId);
+        if (user != null) {
+            return CompletableFuture.completedFuture(Optional.of(user));
+        }
+        if (!StoredUserIndex.hasStoredData(uniqueId)) {
+            // Everything else is in memory, but must be accessed from the main thread
+            MinecraftServer server = MinecraftServer.getServer();
+            if (server.isCallingFromMinecraftThread()) {
+                return CompletableFuture.completedFuture(Optional.ofNullable(findByUuid(uniqueId)));
             }
+            return CompletableFuture.supplyAsync(() -> Optional.ofNullable(findByUuid(uniqueId)), server::addScheduledTask);
+        }
+        CompletableFuture<Optional<User>> future = pendingLoads.computeIfAbsent(uniqueId, id -> {
+            // Try the server's cache first to avoid waiting on a lookup
+            GameProfile cached = MinecraftServer.getServer().getPlayerProfileCache().getProfileByUUID(id);
+            CompletableFuture<org.spongepowered.api.profile.GameProfile> profileFuture = cached != null
+                    ? CompletableFuture.completedFuture((org.spongepowered.api.profile.GameProfile) cached)
+                    : Sponge.getServer().getGameProfileManager().get(id);
+            return profileFuture
+                    .thenCombine(SpongeScheduler.getInstance().submitAsyncTask(() -> readStoredData(id)),
+                            (profile, compound) -> profile == null ? Optional.<User>empty()
+                                    : Optional.of(createFromStoredData((GameProfile) profile, compound)))
+                    .exceptionally(e -> {
+                        SpongeImpl.getLogger().warn("Error while loading user {}", id, e);
+                        return Optional.empty();
+                    });
+        });
+        // Registered outside of computeIfAbsent, the future may already be complete and the map must not be modified from within it
+        future.whenComplete((result, error) -> pendingLoads.remove(uniqueId, future));
+        return future;
+    }
+
+    /**
+     * Starts loading the stored data of a user that is not cached, so a later
+     * lookup does not have to read it.
+     *
+     * @param uniqueId The user's UUID
+     */
+    static void prefetch(UUID uniqueId) {
+        if (userCache.getIfPresent(uniqueId) == null && StoredUserIndex.hasStoredData(uniqueId)) {
+            findByUuidAsync(uniqueId);
+        }
+    }
+
+    /**
+     * Gets a user without reading stored data or waiting on a profile lookup
+     * on the calling thread. If the user's stored data is still being read, a
+     * placeholder user without that data is returned. It is not cached and
+     * changes to it are never saved; later lookups return the full user once
+     * the read has completed.
+     *
+     * @param uniqueId The user's UUID
+     * @return The user, or null if not found
+     */
+    @Nullable
+    static User findWithoutBlocking(UUID uniqueId) {
+        User user = userCache.getIfPresent(uniqueId);
+        if (user != null) {
+            return user;
+        }
+        user = getOnlinePlayer(uniqueId);
+        if (user != null) {
+            return user;
+        }
+        if (StoredUserIndex.hasStoredData(uniqueId)) {
+            Optional<User> loaded = findByUuidAsync(uniqueId).getNow(null);
+            if (loaded == null) {
+                GameProfile cached = MinecraftServer.getServer().getPlayerProfileCache().getProfileByUUID(uniqueId);
+                return (User) SpongeUser.placeholder(cached != null ? cached : new GameProfile(uniqueId, null));
+            }
+            if (loaded.isPresent()) {
+                return loaded.get();
+            }
+        }
+        user = getFromWhitelist(uniqueId);
+        if (user != null) {
+            return user;
+        }
+        return getFromBanlist(uniqueId);
+    }
+
+    static User findByUsername(String username) {
+        // Only read the cache, a miss in the vanilla lookup would query Mojang and rewrite usercache.json
+        Optional<org.spongepowered.api.profile.GameProfile> profile =
+                ((GameProfileCache) MinecraftServer.getServer().getPlayerProfileCache()).getByName(username);
+        if (profile.isPresent()) {
+            return findByUuid(profile.get().getUniqueId());
         }
         return null;
     }
@@ -121,17 +212,8 @@ static Collection<org.spongepowered.api.profile.GameProfile> getAllProfiles() {
         }
 
         // Add all known profiles from the data files
-        SaveHandler saveHandler = (SaveHandler) DimensionManager.getWorldFromDimId(0).getSaveHandler();
-        String[] uuids = saveHandler.getAvailablePlayerDat();
-        for (String playerUuid : uuids) {
-
-            // Some mods store other files in the 'playerdata' folder, so
-            // we need to ensure that the filename is a valid UUID
-            if (playerUuid.split("-").length != 5) {
-                continue;
-            }
-
-            GameProfile profile = MinecraftServer.getServer().getPlayerProfileCache().getProfileByUUID(UUID.fromString(playerUuid));
+        for (UUID playerUuid : StoredUserIndex.getStoredUsers()) {
+            GameProfile profile = MinecraftServer.getServer().getPlayerProfileCache().getProfileByUUID(playerUuid);
             if (profile != null) {
                 profiles.add((org.spongepowered.api.profile.GameProfile) profile);
             }
@@ -181,12 +263,17 @@ private static User getOnlinePlayer(UUID uniqueId) {
 
     private static User getFromStoredData(UUID uniqueId) {
         // Note: Uses the overworld's player data
-        File dataFile = getPlayerDataFile(uniqueId);
+        File dataFile = StoredUserIndex.getDataFile(uniqueId);
         if (dataFile == null) {
             return null;
         }
-        Optional<org.spongepowered.api.profile.GameProfile> profile = getProfileFromServer(uniqueId);
+        CompletableFuture<Optional<User>> pending = pendingLoads.get(uniqueId);
+        if (pending != null) {
+            // Share the read in progress instead of reading the file a second time
+            return pending.join().orElse(null);
+        }
 
+        Optional<org.spongepowered.api.profile.GameProfile> profile = getProfileFromServer(uniqueId);
         if (profile.isPresent()) {
             User user = create((GameProfile) profile.get());
             try {
@@ -200,7 +287,35 @@ private static User getFromStoredData(UUID uniqueId) {
         }
     }
 
+    @Nullable
+    private static NBTTagCompound readStoredData(UUID uniqueId) {
+        File dataFile = StoredUserIndex.getDataFile(uniqueId);
+        if (dataFile != null) {
+            try (FileInputStream in = new FileInputStream(dataFile)) {
+                return CompressedStreamTools.readCompressed(in);
+            } catch (IOException e) {
+                SpongeImpl.getLogger().warn("Corrupt user file {}", dataFile, e);
+            }
+        }
+        return null;
+    }
+
+    private static User createFromStoredData(GameProfile profile, @Nullable NBTTagCompound compound) {
+        User user = (User) new SpongeUser(profile);
+        if (compound != null) {
+            ((SpongeUser) user).readFromNbt(compound);
+        }
+        // Keep a user that was created while this one was being read
+        User existing = userCache.asMap().putIfAbsent(profile.getId(), user);
+        return existing != null ? existing : user;
+    }
+
     private static Optional<org.spongepowered.api.profile.GameProfile> getProfileFromServer(UUID uuid) {
+        // Try the server's cache first to avoid waiting on a lookup
+        GameProfile cached = MinecraftServer.getServer().getPlayerProfileCache().getProfileByUUID(uuid);
+        if (cached != null) {
+            return Optional.of((org.spongepowered.api.profile.GameProfile) cached);
+        }
         CompletableFuture<org.spongepowered.api.profile.GameProfile> gameProfile = Sponge.getServer().getGameProfileManager().get(uuid);
 
         try {
@@ -242,23 +357,15 @@ private static User getFromBanlist(UUID uniqueId) {
         return null;
     }
 
-    private static File getPlayerDataFile(UUID uniqueId) {
-        // Note: Uses the overworld's player data
-        SaveHandler saveHandler = (SaveHandler) DimensionManager.getWorldFromDimId(0).getSaveHandler();
-        String[] uuids = saveHandler.getAvailablePlayerDat();
-        for (String playerUuid : uuids) {
-            if (uniqueId.toString().equals(playerUuid)) {
-                return new File(saveHandler.playersDirectory, playerUuid + ".dat");
-            }
-        }
-        return null;
-    }
-
     private static boolean deleteStoredPlayerData(UUID uniqueId) {
-        File dataFile = getPlayerDataFile(uniqueId);
+        File dataFile = StoredUserIndex.getDataFile(uniqueId);
         if (dataFile != null) {
             try {
-                return dataFile.delete();
+                if (dataFile.delete() || !dataFile.exists()) {
+                    StoredUserIndex.onDataDeleted(uniqueId);
+                    return true;
+                }
+                return false;
             } catch (SecurityException e) {
                 SpongeImpl.getLogger().warn("Unable to delete file {} due to a security error", dataFile, e);
                 return false;
@@ -31,6 +31,10 @@
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import net.minecraft.util.ClassInheritanceMultiMap;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.data.manipulator.mutable.DisplayNameData;
 import org.spongepowered.api.data.manipulator.mutable.entity.ExperienceHolderData;
@@ -55,17 +59,19 @@
 import org.spongepowered.api.util.Functional;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.command.source.LocatedSource;
-import org.spongepowered.api.world.Chunk;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.extent.Extent;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -82,6 +88,8 @@ public class SelectorResolver {
     private static final Set<ArgumentType<?>> LOCATION_BASED_ARGUMENTS;
     private static final Function<Number, Double> TO_DOUBLE = Number::doubleValue;
     private static final Collection<SelectorType> INFINITE_TYPES = ImmutableSet.of(SelectorTypes.ALL_ENTITIES, SelectorTypes.ALL_PLAYERS);
+    // Entities are only moved between chunks once per tick, so search a little further
+    private static final double SEARCH_MARGIN = 2.0D;
 
     static {
         ImmutableSet.Builder<ArgumentType<?>> builder = ImmutableSet.builder();
@@ -117,6 +125,12 @@ private static <I, R> Predicate<I> requireTypePredicate(Class<I> inputType, fina
     private final Selector selector;
     private final Predicate<Entity> selectorFilter;
     private final boolean alwaysUsePosition;
+    // The position distances are measured from, and the box selected entities must be in
+    private final Vector3d searchCenter;
+    private final Vector3d searchMin;
+    private final Vector3d searchMax;
+    private final boolean playerOnly;
+    private final Class<?> searchClass;
 
     public SelectorResolver(Collection<? extends Extent> extents, Selector selector, boolean force) {
         this(extents, null, null, selector, force);
@@ -138,6 +152,39 @@ private SelectorResolver(Collection<? extends Extent> extents, Vector3d position
         this.selector = checkNotNull(selector);
         this.selectorFilter = makeFilter();
         this.alwaysUsePosition = force;
+        this.searchCenter = getPositionOrDefault(this.position, ArgumentTypes.POSITION);
+        Vector3d min = new Vector3d(Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY);
+        Vector3d max = new Vector3d(Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY);
+        Optional<Integer> radiusMax = selector.get(ArgumentTypes.RADIUS.maximum());
+        if (radiusMax.isPresent()) {
+            min = this.searchCenter.sub(radiusMax.get(), radiusMax.get(), radiusMax.get());
+            max = this.searchCenter.add(radiusMax.get(), radiusMax.get(), radiusMax.get());
+        }
+        Vector3d boxEnd = this.searchCenter.add(getPositionOrDefault(ORIGIN, ArgumentTypes.DIMENSION));
+        Vector3d boxMin = this.searchCenter.min(boxEnd);
+        Vector3d boxMax = this.searchCenter.max(boxEnd);
+        this.searchMin = new Vector3d(
+            selector.has(ArgumentTypes.DIMENSION.x()) ? Math.max(min.getX(), boxMin.getX()) : min.getX(),
+            selector.has(ArgumentTypes.DIMENSION.y()) ? Math.max(min.getY(), boxMin.getY()) : min.getY(),
+            selector.has(ArgumentTypes.DIMENSION.z()) ? Math.max(min.getZ(), boxMin.getZ()) : min.getZ());
+        this.searchMax = new Vector3d(
+            selector.has(ArgumentTypes.DIMENSION.x()) ? Math.min(max.getX(), boxMax.getX()) : max.getX(),
+            selector.has(ArgumentTypes.DIMENSION.y()) ? Math.min(max.getY(), boxMax.getY()) : max.getY(),
+            selector.has(ArgumentTypes.DIMENSION.z()) ? Math.min(max.getZ(), boxMax.getZ()) : max.getZ());
+        Optional<Invertible<EntityType>> type = selector.getArgument(ArgumentTypes.ENTITY_TYPE);
+        this.playerOnly = isPlayerOnlySelector(selector.getType(), type);
+        if (type.isPresent() && !type.get().isInverted()) {
+            this.searchClass = type.get().getValue().getEntityClass();
+        } else {
+            this.searchClass = net.minecraft.entity.Entity.class;
+        }
+    }
+
+    private static boolean isPlayerOnlySelector(SelectorType selectorType, Optional<Invertible<EntityType>> type) {
+        // isn't an ALL_ENTITIES selector or it is a RANDOM selector for only players
+        return selectorType == SelectorTypes.ALL_PLAYERS || selectorType == SelectorTypes.NEAREST_PLAYER
+                || (selectorType == SelectorTypes.RANDOM && type.isPresent() && !type.get().isInverted()
+                && type.get().getValue() != EntityTypes.PLAYER);
     }
 
     private Predicate<Entity> makeFilter() {
@@ -154,14 +201,7 @@ private Predicate<Entity> makeFilter() {
         addRotationFilters(filters);
         addTeamFilters(filters);
         addScoreFilters(filters);
-        SelectorType selectorType = sel.getType();
-        Optional<Invertible<EntityType>> type = sel.getArgument(ArgumentTypes.ENTITY_TYPE);
-        // isn't an ALL_ENTITIES selector or it is a RANDOM selector for only players
-        boolean isPlayerOnlySelector =
-            selectorType == SelectorTypes.ALL_PLAYERS || selectorType == SelectorTypes.NEAREST_PLAYER
-                || (selectorType == SelectorTypes.RANDOM && type.isPresent() && !type.get().isInverted()
-                && type.get().getValue() != EntityTypes.PLAYER);
-        if (isPlayerOnlySelector) {
+        if (isPlayerOnlySelector(sel.getType(), sel.getArgument(ArgumentTypes.ENTITY_TYPE))) {
             // insert at the start so it applies first
             filters.add(0, requireTypePredicate(Entity.class, Player.class));
         }
@@ -347,29 +387,161 @@ public Set<Entity> resolve() {
             defaultCount = 0;
         }
         int maxToSelect = this.selector.get(ArgumentTypes.COUNT).orElse(defaultCount);
+        // A negative count selects the furthest entities instead of the nearest
+        boolean furthest = maxToSelect < 0;
         Set<? extends Extent> extents = getExtentSet();
         int count = 0;
         ImmutableSet.Builder<Entity> entities = ImmutableSet.builder();
         for (Extent extent : extents) {
-            Collection<Entity> allEntities = extent.getEntities();
-            if (selectorType == SelectorTypes.RANDOM) {
-                List<Entity> entityList = new ArrayList<>(allEntities);
-                Collections.shuffle(entityList);
-                allEntities = entityList;
+            int limit = 0;
+            if (maxToSelect != 0) {
+                limit = Math.abs(maxToSelect) - count;
+                if (limit <= 0) {
+                    break;
+                }
             }
+            List<Entity> selected;
+            if (extent instanceof WorldServer) {
+                selected = select((WorldServer) extent, selectorType, limit, furthest);
+            } else {
+                selected = select(extent.getEntities(), selectorType, limit, furthest);
+            }
+            entities.addAll(selected);
+            count += selected.size();
+        }
+        return entities.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Entity> select(WorldServer world, SelectorType selectorType, int limit, boolean furthest) {
+        if (this.playerOnly) {
+            // There are few enough players that a spatial search is not worth it
+            return select((List<Entity>) (List<?>) world.playerEntities, selectorType, limit, furthest);
+        }
+        List<Chunk> chunks = getSearchChunks(world);
+        if (limit != 0 && !furthest && selectorType != SelectorTypes.RANDOM) {
+            return selectNearest(chunks, limit);
+        }
+        List<Entity> candidates = new ArrayList<>();
+        for (Chunk chunk : chunks) {
+            collectEntities(chunk, candidates);
+        }
+        return select(candidates, selectorType, limit, furthest);
+    }
+
+    private List<Entity> select(Collection<Entity> candidates, SelectorType selectorType, int limit, boolean furthest) {
+        List<Entity> matches = candidates.stream().filter(this.selectorFilter).collect(Collectors.toList());
+        if (selectorType == SelectorTypes.RANDOM) {
+            Collections.shuffle(matches);
+        } else if (limit != 0) {
+            Comparator<Entity> nearestFirst = Comparator.comparingDouble(this::distanceSquared);
+            matches.sort(furthest ? nearestFirst.reversed() : nearestFirst);
+        }
+        return limit != 0 && matches.size() > limit ? matches.subList(0, limit) : matches;
+    }
 
-            for (Entity e : allEntities) {
-                if (!this.selectorFilter.test(e)) {
-                    continue;
+    /**
+     * Selects the nearest matching entities, visiting chunks from the nearest
+     * outwards and stopping once no remaining chunk can hold a nearer entity.
+     */
+    private List<Entity> selectNearest(List<Chunk> chunks, int limit) {
+        chunks.sort(Comparator.comparingDouble((Chunk chunk) -> distanceSquared(chunk)));
+        Comparator<Entity> nearestFirst = Comparator.comparingDouble(this::distanceSquared);
+        // The furthest of the selected entities is at the head, ready to be replaced
+        PriorityQueue<Entity> selected = new PriorityQueue<>(limit, nearestFirst.reversed());
+        List<Entity> candidates = new ArrayList<>();
+        for (Chunk chunk : chunks) {
+            if (selected.size() == limit && distanceSquared(chunk) > distanceSquared(selected.peek())) {
+                break;
+            }
+            candidates.clear();
+            collectEntities(chunk, candidates);
+            for (Entity entity : candidates) {
+                if (this.selectorFilter.test(entity)) {
+                    selected.add(entity);
+                    if (selected.size() > limit) {
+                        selected.poll();
+                    }
                 }
-                entities.add(e);
-                count++;
-                if (maxToSelect != 0 && count > maxToSelect) {
-                    break;
+            }
+        }
+        List<Entity> entities = new ArrayList<>(selected);
+        entities.sort(nearestFirst);
+        return entities;
+    }
+
+    private List<Chunk> getSearchChunks(WorldServer world) {
+        List<Chunk> loadedChunks = world.theChunkProviderServer.loadedChunks;
+        if (Double.isInfinite(this.searchMin.getX()) || Double.isInfinite(this.searchMin.getZ())
+                || Double.isInfinite(this.searchMax.getX()) || Double.isInfinite(this.searchMax.getZ())) {
+            return new ArrayList<>(loadedChunks);
+        }
+        int minX = floor(this.searchMin.getX() - SEARCH_MARGIN) >> 4;
+        int minZ = floor(this.searchMin.getZ() - SEARCH_MARGIN) >> 4;
+        int maxX = floor(this.searchMax.getX() + SEARCH_MARGIN) >> 4;
+        int maxZ = floor(this.searchMax.getZ() + SEARCH_MARGIN) >> 4;
+        List<Chunk> chunks = new ArrayList<>();
+        if ((long) (maxX - minX + 1) * (maxZ - minZ + 1) > loadedChunks.size()) {
+            // The area is larger than what is loaded, so filter the loaded chunks instead
+            for (Chunk chunk : loadedChunks) {
+                if (chunk.xPosition >= minX && chunk.xPosition <= maxX && chunk.zPosition >= minZ && chunk.zPosition <= maxZ) {
+                    chunks.add(chunk);
                 }
             }
+            return chunks;
         }
-        return entities.build();
+        IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) world.theChunkProviderServer;
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                Chunk chunk = chunkProvider.getChunkIfLoaded(x, z);
+                if (chunk != null) {
+                    chunks.add(chunk);
+                }
+            }
+        }
+        return chunks;
+    }
+
+    private void collectEntities(Chunk chunk, List<Entity> entities) {
+        ClassInheritanceMultiMap<net.minecraft.entity.Entity>[] entityLists = chunk.getEntityLists();
+        final int lastSection = entityLists.length - 1;
+        int minSection = 0;
+        int maxSection = lastSection;
+        // Entities outside of the world height are kept in the first or last section
+        if (!Double.isInfinite(this.searchMin.getY())) {
+            minSection = MathHelper.clamp_int(floor(this.searchMin.getY() - SEARCH_MARGIN) >> 4, 0, lastSection);
+        }
+        if (!Double.isInfinite(this.searchMax.getY())) {
+            maxSection = MathHelper.clamp_int(floor(this.searchMax.getY() + SEARCH_MARGIN) >> 4, 0, lastSection);
+        }
+        for (int i = minSection; i <= maxSection; i++) {
+            for (Object entity : entityLists[i].getByClass(this.searchClass)) {
+                entities.add((Entity) entity);
+            }
+        }
+    }
+
+    private double distanceSquared(Entity entity) {
+        return ((net.minecraft.entity.Entity) entity).getDistanceSq(this.searchCenter.getX(), this.searchCenter.getY(), this.searchCenter.getZ());
+    }
+
+    /**
+     * Gets the squared distance to the closest point an entity in the chunk
+     * could be at.
+     */
+    private double distanceSquared(Chunk chunk) {
+        double minX = (chunk.xPosition << 4) - SEARCH_MARGIN;
+        double minZ = (chunk.zPosition << 4) - SEARCH_MARGIN;
+        double maxX = (chunk.xPosition << 4) + 16 + SEARCH_MARGIN;
+        double maxZ = (chunk.zPosition << 4) + 16 + SEARCH_MARGIN;
+        double dx = Math.max(0, Math.max(minX - this.searchCenter.getX(), this.searchCenter.getX() - maxX));
+        double dz = Math.max(0, Math.max(minZ - this.searchCenter.getZ(), this.searchCenter.getZ() - maxZ));
+        return dx * dx + dz * dz;
+    }
+
+    private static int floor(double value) {
+        // Clamp to avoid overflowing the chunk coordinates of huge boxes
+        return (int) Math.floor(Math.max(-3.0E7D, Math.min(3.0E7D, value)));
     }
 
     private Set<? extends Extent> getExtentSet() {
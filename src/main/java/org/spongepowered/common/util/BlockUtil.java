@@ -25,10 +25,13 @@
 package org.spongepowered.common.util;
 
 import com.google.common.collect.ComparisonChain;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.MapDifference;
 import com.google.common.collect.Maps;
+import net.minecraft.block.properties.IProperty;
 import net.minecraft.block.state.IBlockState;
 import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.block.trait.BlockTrait;
 
 import java.util.Comparator;
@@ -99,4 +102,30 @@ private List<BlockTrait<?>> sortTraits(Set<BlockTrait<?>> traits) {
 
     public static final Comparator<BlockState> BLOCK_STATE_COMPARATOR = new BlockStateComparator();
 
+    /**
+     * Builds the catalog id of a state, in the form
+     * {@code "modid:block[prop=val,...]"}.
+     *
+     * @param blockType The type of the state
+     * @param properties The properties of the state
+     * @return The id
+     */
+    public static String createStateId(BlockType blockType, ImmutableMap<IProperty<?>, Comparable<?>> properties) {
+        final String blockId = blockType.getId();
+        if (properties.isEmpty()) {
+            return blockId;
+        }
+        final StringBuilder builder = new StringBuilder(blockId.length() + 16 * properties.size());
+        builder.append(blockId).append('[');
+        boolean first = true;
+        for (Map.Entry<IProperty<?>, Comparable<?>> entry : properties.entrySet()) {
+            if (!first) {
+                builder.append(',');
+            }
+            first = false;
+            builder.append(entry.getKey().getName()).append('=').append(entry.getValue());
+        }
+        return builder.append(']').toString();
+    }
+
 }
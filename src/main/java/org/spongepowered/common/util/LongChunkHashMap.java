@@ -0,0 +1,218 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import net.minecraft.util.LongHashMap;
+
+/**
+ * A primitive, open-addressed replacement for {@link LongHashMap} with a
+ * small direct-mapped front cache.
+ *
+ * <p>Keys are stored in a flat {@code long[]} alongside a parallel value
+ * array, so lookups never allocate or chase entry chains. Collisions are
+ * resolved by linear probing and removals use backward-shift deletion, so
+ * no tombstones accumulate. A slot whose value is {@code null} is empty,
+ * which means {@code null} values cannot be stored.</p>
+ *
+ * <p>The front cache remembers the last {@link #CACHE_SIZE} distinct keys
+ * that hashed to different cache slots. This keeps neighbour walks (lighting,
+ * collision, block updates across chunk borders) from repeatedly probing the
+ * main table, which a single "last retrieved" entry cannot do.</p>
+ *
+ * <p>The table inherited from {@link LongHashMap} is never used; every
+ * public method is overridden.</p>
+ *
+ * @param <V> The value type
+ */
+public class LongChunkHashMap<V> extends LongHashMap<V> {
+
+    private static final int CACHE_SIZE = 8;
+    private static final int CACHE_MASK = CACHE_SIZE - 1;
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final float LOAD_FACTOR = 0.5F;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    private final long[] cacheKeys = new long[CACHE_SIZE];
+    private final Object[] cacheValues = new Object[CACHE_SIZE];
+
+    public LongChunkHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongChunkHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        this.allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        this.resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        return (int) (h ^ (h >>> 16));
+    }
+
+    private static int cacheSlot(long key) {
+        // Chunk keys pack x in the low and z in the high word, so folding
+        // both keeps adjacent chunks on distinct cache slots.
+        return ((int) key ^ (int) (key >>> 32) * 3) & CACHE_MASK;
+    }
+
+    @Override
+    public int getNumHashElements() {
+        return this.size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V getValueByKey(long key) {
+        final int slot = cacheSlot(key);
+        final Object cached = this.cacheValues[slot];
+        if (cached != null && this.cacheKeys[slot] == key) {
+            return (V) cached;
+        }
+
+        final long[] keys = this.keys;
+        final Object[] values = this.values;
+        int index = mix(key) & this.mask;
+        Object value;
+        while ((value = values[index]) != null) {
+            if (keys[index] == key) {
+                this.cacheKeys[slot] = key;
+                this.cacheValues[slot] = value;
+                return (V) value;
+            }
+            index = (index + 1) & this.mask;
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsItem(long key) {
+        return this.getValueByKey(key) != null;
+    }
+
+    @Override
+    public void add(long key, V value) {
+        if (value == null) {
+            this.remove(key);
+            return;
+        }
+
+        int index = mix(key) & this.mask;
+        while (this.values[index] != null) {
+            if (this.keys[index] == key) {
+                this.values[index] = value;
+                this.updateCache(key, value);
+                return;
+            }
+            index = (index + 1) & this.mask;
+        }
+        this.keys[index] = key;
+        this.values[index] = value;
+        this.updateCache(key, value);
+        if (++this.size > this.resizeThreshold) {
+            this.rehash(this.keys.length << 1);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V remove(long key) {
+        final long[] keys = this.keys;
+        final Object[] values = this.values;
+        int index = mix(key) & this.mask;
+        Object value;
+        while ((value = values[index]) != null) {
+            if (keys[index] == key) {
+                this.updateCache(key, null);
+                this.shiftKeys(index);
+                this.size--;
+                return (V) value;
+            }
+            index = (index + 1) & this.mask;
+        }
+        return null;
+    }
+
+    private void updateCache(long key, Object value) {
+        final int slot = cacheSlot(key);
+        if (this.cacheKeys[slot] == key || value != null) {
+            this.cacheKeys[slot] = key;
+            this.cacheValues[slot] = value;
+        }
+    }
+
+    /**
+     * Closes the gap left at {@code gap} by moving back any following entry
+     * in the same probe run whose home slot is at or before the gap.
+     */
+    private void shiftKeys(int gap) {
+        final long[] keys = this.keys;
+        final Object[] values = this.values;
+        int index = gap;
+        while (true) {
+            index = (index + 1) & this.mask;
+            final Object value = values[index];
+            if (value == null) {
+                break;
+            }
+            final int home = mix(keys[index]) & this.mask;
+            if (gap <= index ? (gap >= home || home > index) : (gap >= home && home > index)) {
+                keys[gap] = keys[index];
+                values[gap] = value;
+                gap = index;
+            }
+        }
+        values[gap] = null;
+    }
+
+    private void rehash(int capacity) {
+        final long[] oldKeys = this.keys;
+        final Object[] oldValues = this.values;
+        this.allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            final Object value = oldValues[i];
+            if (value != null) {
+                int index = mix(oldKeys[i]) & this.mask;
+                while (this.values[index] != null) {
+                    index = (index + 1) & this.mask;
+                }
+                this.keys[index] = oldKeys[i];
+                this.values[index] = value;
+            }
+        }
+    }
+}
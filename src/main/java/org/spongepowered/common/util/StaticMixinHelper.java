@@ -56,6 +56,8 @@ public class StaticMixinHelper {
     public static boolean convertingMapFormat = false;
     public static UUID INVALID_WORLD_UUID = UUID.fromString("00000000-0000-0000-0000-000000000000");
     public static boolean setCustomNameTagSkip = false;
+    // Set while a world entity query fires a single CollideEntityEvent in place of one per chunk
+    public static int collideEntityQueryDepth = 0;
 
     // For spawning
     public static boolean gettingSpawnList;
@@ -0,0 +1,138 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import net.minecraft.util.BlockPos;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.NextTickListEntry;
+import net.minecraft.world.gen.structure.StructureBoundingBox;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A secondary index of a world's pending block updates, grouped by chunk and
+ * then by position so lookups only visit the updates involved instead of the
+ * whole queue.
+ *
+ * <p>Entries are matched with {@link NextTickListEntry#equals(Object)}, the
+ * same as the world's pending update hash set, which this index must be kept
+ * in sync with.</p>
+ */
+public final class ScheduledBlockUpdateIndex {
+
+    private final TLongObjectMap<Map<BlockPos, List<NextTickListEntry>>> chunks = new TLongObjectHashMap<>();
+    private int size;
+
+    public void add(NextTickListEntry entry) {
+        long key = ChunkCoordIntPair.chunkXZ2Int(entry.position.getX() >> 4, entry.position.getZ() >> 4);
+        Map<BlockPos, List<NextTickListEntry>> positions = this.chunks.get(key);
+        if (positions == null) {
+            positions = new HashMap<>();
+            this.chunks.put(key, positions);
+        }
+        List<NextTickListEntry> entries = positions.get(entry.position);
+        if (entries == null) {
+            entries = new ArrayList<>(1);
+            positions.put(entry.position, entries);
+        }
+        entries.add(entry);
+        this.size++;
+    }
+
+    public boolean remove(NextTickListEntry entry) {
+        long key = ChunkCoordIntPair.chunkXZ2Int(entry.position.getX() >> 4, entry.position.getZ() >> 4);
+        Map<BlockPos, List<NextTickListEntry>> positions = this.chunks.get(key);
+        if (positions == null) {
+            return false;
+        }
+        List<NextTickListEntry> entries = positions.get(entry.position);
+        if (entries == null || !entries.remove(entry)) {
+            return false;
+        }
+        if (entries.isEmpty()) {
+            positions.remove(entry.position);
+            if (positions.isEmpty()) {
+                this.chunks.remove(key);
+            }
+        }
+        this.size--;
+        return true;
+    }
+
+    /**
+     * Gets the pending updates at the given position.
+     *
+     * @param pos The position
+     * @return The pending updates, in no particular order
+     */
+    public List<NextTickListEntry> get(BlockPos pos) {
+        Map<BlockPos, List<NextTickListEntry>> positions = this.chunks.get(ChunkCoordIntPair.chunkXZ2Int(pos.getX() >> 4, pos.getZ() >> 4));
+        if (positions == null) {
+            return Collections.emptyList();
+        }
+        List<NextTickListEntry> entries = positions.get(pos);
+        return entries == null ? Collections.emptyList() : Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Gets the pending updates within the horizontal bounds of the given box,
+     * using the same exclusive maximum as vanilla's pending update lookup.
+     *
+     * @param box The bounding box
+     * @return A new list of the pending updates, in no particular order
+     */
+    public List<NextTickListEntry> getWithin(StructureBoundingBox box) {
+        List<NextTickListEntry> found = new ArrayList<>();
+        int minChunkX = box.minX >> 4;
+        int maxChunkX = (box.maxX - 1) >> 4;
+        int minChunkZ = box.minZ >> 4;
+        int maxChunkZ = (box.maxZ - 1) >> 4;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                Map<BlockPos, List<NextTickListEntry>> positions = this.chunks.get(ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ));
+                if (positions == null) {
+                    continue;
+                }
+                for (Map.Entry<BlockPos, List<NextTickListEntry>> entry : positions.entrySet()) {
+                    BlockPos pos = entry.getKey();
+                    if (pos.getX() >= box.minX && pos.getX() < box.maxX && pos.getZ() >= box.minZ && pos.getZ() < box.maxZ) {
+                        found.addAll(entry.getValue());
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    public int size() {
+        return this.size;
+    }
+}
@@ -30,15 +30,28 @@
 import com.flowpowered.math.GenericMath;
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.storage.IChunkLoader;
 import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.slf4j.Logger;
 import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.WorldBorder;
+import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.scheduler.SpongeScheduler;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
+import org.spongepowered.common.world.storage.WorldStorageUtil;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
@@ -100,7 +113,7 @@ public Task start() {
         checkNotNull(this.plugin, "owner not set");
         checkArgument(this.chunkCount > 0 || this.tickPercent > 0, "Must use at least one of \"chunks per tick\" or \"tick percent limit\"");
         return Task.builder().name(toString())
-            .execute(new ChunkPreGenerator(this.world, this.center, this.diameter, this.chunkCount, this.tickPercent, this.logger))
+            .execute(new ChunkPreGenerator(this.world, this.plugin, this.center, this.diameter, this.chunkCount, this.tickPercent, this.logger))
             .intervalTicks(this.tickInterval).submit(this.plugin);
     }
 
@@ -138,7 +151,11 @@ public String toString() {
             '}';
     }
 
-    private static class ChunkPreGenerator implements Consumer<Task> {
+    /**
+     * Walks the area in a square spiral around the center, two chunks at a
+     * time so that each position covers a 2x2 group of chunks.
+     */
+    private static class ChunkSpiral {
 
         private static final Vector3i[] OFFSETS = {
             Vector3i.UNIT_Z.negate().mul(2),
@@ -146,23 +163,210 @@ private static class ChunkPreGenerator implements Consumer<Task> {
             Vector3i.UNIT_Z.mul(2),
             Vector3i.UNIT_X.negate().mul(2)
         };
+        private final int chunkRadius;
+        private Vector3i currentPosition;
+        private int currentGenCount;
+        private int currentLayer;
+        private int currentIndex;
+        private int nextJump;
+
+        ChunkSpiral(Vector3i center, int chunkRadius) {
+            this.chunkRadius = chunkRadius;
+            this.currentPosition = center;
+            this.currentGenCount = 4;
+        }
+
+        boolean hasNext() {
+            return this.currentLayer <= this.chunkRadius;
+        }
+
+        Vector3i next() {
+            final Vector3i nextPosition = this.currentPosition;
+            final int currentLayerIndex;
+            if (this.currentIndex >= this.nextJump) {
+                // Reached end of layer, jump to the next so we can keep spiralling
+                this.currentPosition = this.currentPosition.sub(Vector3i.UNIT_X).sub(Vector3i.UNIT_Z);
+                this.currentLayer++;
+                // Each the jump increment increases by 4 at each new layer
+                this.nextJump += this.currentLayer * 4;
+                currentLayerIndex = 1;
+            } else {
+                // Get the current index since the last jump
+               currentLayerIndex = this.currentIndex - (this.nextJump - this.currentLayer * 4);
+                // Move to next position in layer, by following a square
+                this.currentPosition = this.currentPosition.add(OFFSETS[currentLayerIndex / this.currentLayer]);
+            }
+            // If we're at the corner it's 3, else 2 for an edge
+            this.currentGenCount = currentLayerIndex % this.currentLayer == 0 ? 3 : 2;
+            this.currentIndex++;
+            return nextPosition;
+        }
+
+        /**
+         * Gets the number of new chunks covered by the last position.
+         *
+         * @return The chunk count
+         */
+        int getGenCount() {
+            return this.currentGenCount;
+        }
+
+        static int countPositions(Vector3i center, int chunkRadius) {
+            final ChunkSpiral spiral = new ChunkSpiral(center, chunkRadius);
+            int count = 0;
+            while (spiral.hasNext()) {
+                spiral.next();
+                count++;
+            }
+            return count;
+        }
+
+    }
+
+    /**
+     * A 2x2 group of chunks, identified by its index along the spiral.
+     */
+    private static final class ChunkGroup {
+
+        private static final ChunkGroup END = new ChunkGroup(-1, Vector3i.ZERO, 0);
+
+        final int index;
+        final Vector3i position;
+        final int genCount;
+
+        ChunkGroup(int index, Vector3i position, int genCount) {
+            this.index = index;
+            this.position = position;
+            this.genCount = genCount;
+        }
+
+    }
+
+    /**
+     * Runs ahead of the generator off the main thread, reading the region
+     * files to drop every group of chunks that is already saved and
+     * populated. Only the remaining groups are queued for the main thread.
+     */
+    private static final class ChunkScanner implements Consumer<Task> {
+
+        private final ChunkSpiral spiral;
+        private final int startIndex;
+        @Nullable private final File regionDir;
+        private final BlockingQueue<ChunkGroup> queue;
+        @Nullable private final Logger logger;
+        @Nullable private volatile UUID generatorTaskId;
+        private volatile boolean cancelled;
+        // Every group below this index has either been skipped or queued
+        private volatile int scannedIndex;
+        private volatile int skippedCount;
+
+        ChunkScanner(ChunkSpiral spiral, int startIndex, @Nullable File regionDir, BlockingQueue<ChunkGroup> queue, @Nullable Logger logger) {
+            this.spiral = spiral;
+            this.startIndex = startIndex;
+            this.regionDir = regionDir;
+            this.queue = queue;
+            this.logger = logger;
+            this.scannedIndex = startIndex;
+        }
+
+        @Override
+        public void accept(Task task) {
+            int index = 0;
+            try {
+                while (this.spiral.hasNext() && !isCancelled()) {
+                    final Vector3i position = this.spiral.next();
+                    final int genCount = this.spiral.getGenCount();
+                    if (index >= this.startIndex) {
+                        if (isGenerated(position)) {
+                            this.skippedCount++;
+                        } else if (!offer(new ChunkGroup(index, position, genCount))) {
+                            return;
+                        }
+                        this.scannedIndex = index + 1;
+                    }
+                    index++;
+                }
+                offer(ChunkGroup.END);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private boolean offer(ChunkGroup group) throws InterruptedException {
+            while (!this.queue.offer(group, 1, TimeUnit.SECONDS)) {
+                if (isCancelled()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isCancelled() {
+            final UUID generatorTaskId = this.generatorTaskId;
+            // Stop once the generator task itself was cancelled by its owner
+            return this.cancelled || generatorTaskId != null && !SpongeScheduler.getInstance().getTaskById(generatorTaskId).isPresent();
+        }
+
+        private boolean isGenerated(Vector3i position) {
+            if (this.regionDir == null) {
+                return false;
+            }
+            final int x = position.getX();
+            final int z = position.getZ();
+            try {
+                return WorldStorageUtil.isChunkPopulated(this.regionDir, x, z)
+                    && WorldStorageUtil.isChunkPopulated(this.regionDir, x - 1, z)
+                    && WorldStorageUtil.isChunkPopulated(this.regionDir, x, z - 1)
+                    && WorldStorageUtil.isChunkPopulated(this.regionDir, x - 1, z - 1);
+            } catch (IOException e) {
+                if (this.logger != null) {
+                    this.logger.warn("Could not read chunks around {}, they will be loaded instead", position, e);
+                }
+                return false;
+            }
+        }
+
+        void start(Task generatorTask, Object plugin) {
+            this.generatorTaskId = generatorTask.getUniqueId();
+            Task.builder().async().name(generatorTask.getName() + " Scanner").execute(this).submit(plugin);
+        }
+
+        void cancel() {
+            this.cancelled = true;
+        }
+
+    }
+
+    private static class ChunkPreGenerator implements Consumer<Task> {
+
         private static final String TIME_FORMAT = "s's 'S'ms'";
+        private static final String CHECKPOINT_FILE = "SpongeChunkPreGenerate.dat";
+        private static final long CHECKPOINT_INTERVAL = TimeUnit.SECONDS.toMillis(30);
+        private static final int QUEUE_CAPACITY = 1024;
         private final World world;
+        private final Object plugin;
+        private final Vector3i center;
         private final int chunkRadius;
         private final int chunkCount;
         private final float tickPercent;
         private final long tickTimeLimit;
         @Nullable private final Logger logger;
-        private Vector3i currentPosition;
-        private int currentGenCount;
-        private int currentLayer;
-        private int currentIndex;
-        private int nextJump;
+        @Nullable private final File checkpointFile;
+        private final BlockingQueue<ChunkGroup> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final ChunkScanner scanner;
+        private final int totalGroups;
+        private final int startIndex;
+        private final long startTime;
+        private boolean scannerStarted;
+        private int completedIndex;
         private int totalCount;
         private long totalTime;
+        private long lastCheckpoint;
 
-        ChunkPreGenerator(World world, Vector3d center, double diameter, int chunkCount, float tickPercent, @Nullable Logger logger) {
+        ChunkPreGenerator(World world, Object plugin, Vector3d center, double diameter, int chunkCount, float tickPercent,
+            @Nullable Logger logger) {
             this.world = world;
+            this.plugin = plugin;
             this.chunkRadius = GenericMath.floor(diameter / 32);
             this.chunkCount = chunkCount;
             this.tickPercent = tickPercent;
@@ -170,72 +374,134 @@ private static class ChunkPreGenerator implements Consumer<Task> {
             this.tickTimeLimit = Math.round(SpongeScheduler.getInstance().getPreferredTickInterval() * tickPercent);
             final Optional<Vector3i> currentPosition = SpongeChunkLayout.instance.toChunk(center.toInt());
             if (currentPosition.isPresent()) {
-                this.currentPosition = currentPosition.get();
+                this.center = currentPosition.get();
             } else {
                 throw new IllegalArgumentException("Center is not a valid chunk coordinate");
             }
-            this.currentGenCount = 4;
-            this.currentLayer = 0;
-            this.currentIndex = 0;
-            this.nextJump = 0;
-            this.totalCount = 0;
-            this.totalTime = 0;
+            this.totalGroups = ChunkSpiral.countPositions(this.center, this.chunkRadius);
+
+            final WorldServer worldServer = (WorldServer) world;
+            final File worldDir = worldServer.getSaveHandler().getWorldDirectory();
+            this.checkpointFile = worldDir == null ? null : new File(new File(worldDir, "data"), CHECKPOINT_FILE);
+            this.startIndex = readCheckpoint();
+            this.completedIndex = this.startIndex;
+            if (this.startIndex > 0 && this.logger != null) {
+                this.logger.info("Resuming chunk pre-generation at {}% from {}", percentComplete(), this.checkpointFile);
+            }
+
+            final IChunkLoader chunkLoader = ((IMixinChunkProviderServer) worldServer.theChunkProviderServer).getChunkLoader();
+            final File regionDir = chunkLoader instanceof IMixinAnvilChunkLoader ? ((IMixinAnvilChunkLoader) chunkLoader).getWorldDir().toFile() : null;
+            this.scanner = new ChunkScanner(new ChunkSpiral(this.center, this.chunkRadius), this.startIndex, regionDir, this.queue, logger);
+            this.startTime = System.currentTimeMillis();
+            this.lastCheckpoint = this.startTime;
         }
 
         @Override
         public void accept(Task task) {
+            if (!this.scannerStarted) {
+                this.scannerStarted = true;
+                this.scanner.start(task, this.plugin);
+            }
             final long startTime = System.currentTimeMillis();
             int count = 0;
-            do {
-                count += this.currentGenCount;
-                final Vector3i position = nextChunkPosition();
+            boolean done = false;
+            ChunkGroup group;
+            while (checkChunkCount(count) && checkTickTime(System.currentTimeMillis() - startTime) && (group = this.queue.poll()) != null) {
+                if (group == ChunkGroup.END) {
+                    done = true;
+                    break;
+                }
+                count += group.genCount;
+                final Vector3i position = group.position;
                 this.world.loadChunk(position, true);
                 this.world.loadChunk(position.sub(Vector3i.UNIT_X), true);
                 this.world.loadChunk(position.sub(Vector3i.UNIT_Z), true);
                 this.world.loadChunk(position.sub(Vector3i.UNIT_X).sub(Vector3i.UNIT_Z), true);
-            } while (hasNextChunkPosition() && checkChunkCount(count) && checkTickTime(System.currentTimeMillis() - startTime));
-            if (this.logger != null) {
-                this.totalCount += count;
-                final long deltaTime = System.currentTimeMillis() - startTime;
-                this.totalTime += deltaTime;
-                this.logger.info("Generated {} chunks in {}, {}% complete", count,
+                this.completedIndex = group.index + 1;
+            }
+            // Read the scanner before looking at the queue, anything it scanned
+            // before an empty queue has been generated or skipped
+            final int scannedIndex = this.scanner.scannedIndex;
+            if (this.queue.isEmpty()) {
+                this.completedIndex = Math.max(this.completedIndex, scannedIndex);
+            }
+            done |= this.queue.peek() == ChunkGroup.END;
+            this.totalCount += count;
+            final long now = System.currentTimeMillis();
+            final long deltaTime = now - startTime;
+            this.totalTime += deltaTime;
+            if (this.logger != null && count > 0) {
+                final double elapsedSeconds = Math.max(1, now - this.startTime) / 1000D;
+                final double groupRate = (this.completedIndex - this.startIndex) / elapsedSeconds;
+                final long eta = groupRate <= 0 ? -1 : Math.round((this.totalGroups - this.completedIndex) / groupRate * 1000);
+                this.logger.info("Generated {} chunks in {}, {}% complete ({} chunks/s, {} skipped, ETA {})", count,
                     DurationFormatUtils.formatDuration(deltaTime, TIME_FORMAT, false),
-                    GenericMath.floor(this.totalCount / Math.pow(this.chunkRadius * 2 + 1, 2) * 100)
+                    percentComplete(),
+                    Math.round(this.totalCount / elapsedSeconds),
+                    this.scanner.skippedCount,
+                    eta < 0 ? "unknown" : DurationFormatUtils.formatDurationHMS(eta)
                 );
             }
-            if (!hasNextChunkPosition()) {
+            if (done) {
                 if (this.logger != null) {
-                    this.logger.info("Done! Generated a total of {} chunks in {}", this.totalCount,
-                        DurationFormatUtils.formatDuration(this.totalTime, TIME_FORMAT, false));
+                    this.logger.info("Done! Generated a total of {} chunks in {}, skipped {} existing groups", this.totalCount,
+                        DurationFormatUtils.formatDuration(this.totalTime, TIME_FORMAT, false), this.scanner.skippedCount);
                 }
+                deleteCheckpoint();
+                this.scanner.cancel();
                 task.cancel();
+            } else if (now - this.lastCheckpoint >= CHECKPOINT_INTERVAL) {
+                this.lastCheckpoint = now;
+                writeCheckpoint();
             }
         }
 
-        private boolean hasNextChunkPosition() {
-            return this.currentLayer <= this.chunkRadius;
+        private int percentComplete() {
+            return this.totalGroups == 0 ? 100 : GenericMath.floor(this.completedIndex * 100D / this.totalGroups);
         }
 
-        private Vector3i nextChunkPosition() {
-            final Vector3i nextPosition = this.currentPosition;
-            final int currentLayerIndex;
-            if (this.currentIndex >= this.nextJump) {
-                // Reached end of layer, jump to the next so we can keep spiralling
-                this.currentPosition = this.currentPosition.sub(Vector3i.UNIT_X).sub(Vector3i.UNIT_Z);
-                this.currentLayer++;
-                // Each the jump increment increases by 4 at each new layer
-                this.nextJump += this.currentLayer * 4;
-                currentLayerIndex = 1;
-            } else {
-                // Get the current index since the last jump
-               currentLayerIndex = this.currentIndex - (this.nextJump - this.currentLayer * 4);
-                // Move to next position in layer, by following a square
-                this.currentPosition = this.currentPosition.add(OFFSETS[currentLayerIndex / this.currentLayer]);
+        private int readCheckpoint() {
+            if (this.checkpointFile == null || !this.checkpointFile.isFile()) {
+                return 0;
+            }
+            try {
+                final NBTTagCompound compound = CompressedStreamTools.read(this.checkpointFile);
+                if (compound == null || compound.getInteger("CenterX") != this.center.getX() || compound.getInteger("CenterZ") != this.center.getZ()
+                    || compound.getInteger("Radius") != this.chunkRadius) {
+                    return 0;
+                }
+                return Math.min(compound.getInteger("Index"), this.totalGroups);
+            } catch (IOException e) {
+                if (this.logger != null) {
+                    this.logger.warn("Could not read the chunk pre-generation checkpoint {}, starting over", this.checkpointFile, e);
+                }
+                return 0;
+            }
+        }
+
+        private void writeCheckpoint() {
+            if (this.checkpointFile == null) {
+                return;
+            }
+            final NBTTagCompound compound = new NBTTagCompound();
+            compound.setInteger("CenterX", this.center.getX());
+            compound.setInteger("CenterZ", this.center.getZ());
+            compound.setInteger("Radius", this.chunkRadius);
+            compound.setInteger("Index", this.completedIndex);
+            try {
+                this.checkpointFile.getParentFile().mkdirs();
+                CompressedStreamTools.safeWrite(compound, this.checkpointFile);
+            } catch (IOException e) {
+                if (this.logger != null) {
+                    this.logger.warn("Could not write the chunk pre-generation checkpoint {}", this.checkpointFile, e);
+                }
+            }
+        }
+
+        private void deleteCheckpoint() {
+            if (this.checkpointFile != null && this.checkpointFile.exists() && !this.checkpointFile.delete() && this.logger != null) {
+                this.logger.warn("Could not delete the chunk pre-generation checkpoint {}", this.checkpointFile);
             }
-            // If we're at the corner it's 3, else 2 for an edge
-            this.currentGenCount = currentLayerIndex % this.currentLayer == 0 ? 3 : 2;
-            this.currentIndex++;
-            return nextPosition;
         }
 
         private boolean checkChunkCount(int count) {
@@ -25,126 +25,239 @@
 package org.spongepowered.common.world.storage;
 
 import com.google.common.base.Throwables;
-import com.google.common.collect.Sets;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.world.chunk.storage.RegionFile;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.world.storage.ChunkDataStream;
+import org.spongepowered.common.SpongeImpl;
 
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import javax.annotation.Nullable;
+
+/**
+ * Streams the chunks of every region file in a world directory. Each region
+ * file is opened as a {@link RegionFile} private to the stream, so the
+ * world's shared region file cache is never touched, and is closed once its
+ * last chunk has been read. Chunks are decompressed and translated ahead of
+ * the consumer on a shared, bounded pool, while still being returned in file
+ * order. Chunks that can't be read, such as ones torn by a concurrent save,
+ * are logged and skipped.
+ */
 public class SpongeChunkDataStream implements ChunkDataStream {
 
-    private static class RegionFileItr {
+    private static final int READER_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+    private static final int READ_AHEAD = READER_THREADS * 8;
+    private static final ExecutorService READER_POOL = Executors.newFixedThreadPool(READER_THREADS,
+            new ThreadFactoryBuilder().setNameFormat("Sponge Region Reader #%d").setDaemon(true).build());
 
-        private final RegionFile file;
-        public int index;
+    private final Path worldDir;
+    private final Deque<Future<DataContainer>> pending = new ArrayDeque<>();
+    private List<Path> files;
+    private int fileIndex;
+    @Nullable private ScanRegion region;
+    private int chunkIndex;
 
-        public RegionFileItr(RegionFile regionFile) {
-            this.file = regionFile;
-        }
+    public SpongeChunkDataStream(Path worldDir) {
+        this.worldDir = worldDir;
+        this.files = Lists.newArrayList(WorldStorageUtil.listRegionFiles(worldDir));
+    }
 
-        public int getNext() {
-            int index = this.index;
-            int[] offsets = this.file.offsets;
-            while (index != -1 && index < offsets.length && offsets[index] == 0) {
-                index++;
+    /**
+     * Moves to the next stored chunk, opening the next region file when the
+     * current one is exhausted.
+     *
+     * @return False if there are no chunks left
+     */
+    private boolean advance() {
+        while (true) {
+            if (this.region != null) {
+                while (this.chunkIndex < this.region.offsets.length) {
+                    if (this.region.offsets[this.chunkIndex] != 0) {
+                        return true;
+                    }
+                    this.chunkIndex++;
+                }
+                this.region.finish();
+                this.region = null;
             }
-            if (index >= offsets.length) {
-                return -1;
+            if (this.fileIndex >= this.files.size()) {
+                return false;
             }
-            return index;
-        }
-
-        public DataInputStream getStreamAt(int index) {
-            int x = index & 31;
-            int z = index >>> 5;
-            return this.file.getChunkDataInputStream(x, z);
+            this.region = new ScanRegion(this.files.get(this.fileIndex++));
+            this.chunkIndex = 0;
         }
-
     }
 
-    private final Set<Path> openedFiles = Sets.newHashSet();
-    private RegionFileItr regionFileItr;
-    private final Path worldDir;
-
-    public SpongeChunkDataStream(Path worldDir) {
-        this.worldDir = worldDir;
+    private void fill() {
+        while (this.pending.size() < READ_AHEAD && advance()) {
+            final ScanRegion region = this.region;
+            final int index = this.chunkIndex++;
+            region.acquire();
+            this.pending.add(READER_POOL.submit(() -> {
+                try {
+                    return readChunk(region, index);
+                } finally {
+                    region.release();
+                }
+            }));
+        }
     }
 
-    private boolean itrAvailable() {
-        if (this.regionFileItr != null) {
-            return true;
-        }
-        Iterable<Path> files = WorldStorageUtil.listRegionFiles(this.worldDir);
-        for (Path file : files) {
-            if (!this.openedFiles.contains(file)) {
-                this.regionFileItr = new RegionFileItr(WorldStorageUtil.getRegionFile(file));
-                this.openedFiles.add(file);
-                return true;
+    @Nullable
+    private static DataContainer readChunk(ScanRegion region, int index) {
+        final int x = index & 31;
+        final int z = index >>> 5;
+        try {
+            // The data is read under the region file's lock, only decompression and translation happen concurrently
+            final DataInputStream stream = region.file.getChunkDataInputStream(x, z);
+            if (stream == null) {
+                return null;
+            }
+            try {
+                return WorldStorageUtil.translateChunkData(CompressedStreamTools.read(stream));
+            } finally {
+                stream.close();
             }
+        } catch (Exception e) {
+            SpongeImpl.getLogger().warn("Skipping chunk {}, {} of region file {}, its data could not be read", x, z, region.path, e);
+            return null;
         }
-        return false;
     }
 
-    private int getNextIndex() {
-        int next;
-        while (itrAvailable()) {
-            if ((next = this.regionFileItr.getNext()) == -1) {
-                this.regionFileItr = null;
-            } else {
-                return next;
+    /**
+     * Waits for the next chunk that could be read, dropping the ones that
+     * could not.
+     *
+     * @return Whether there is a next chunk
+     */
+    private boolean awaitNext() {
+        while (true) {
+            fill();
+            final Future<DataContainer> future = this.pending.peek();
+            if (future == null) {
+                return false;
+            }
+            try {
+                if (future.get() != null) {
+                    return true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw Throwables.propagate(e);
+            } catch (ExecutionException e) {
+                throw Throwables.propagate(e.getCause());
             }
+            this.pending.poll();
         }
-        return -1;
     }
 
     @Override
     public DataContainer next() {
-        int next = getNextIndex();
-        if (next == -1) {
+        if (!awaitNext()) {
             throw new NoSuchElementException();
         }
-        this.regionFileItr.index = next + 1;
-        DataInputStream stream = this.regionFileItr.getStreamAt(next);
-        try {
-            return WorldStorageUtil.readDataFromRegion(stream);
-        } catch (IOException e) {
-            throw Throwables.propagate(e);
-        }
+        // Already completed by awaitNext
+        return Futures.getUnchecked(this.pending.poll());
     }
 
     @Override
     public boolean hasNext() {
-        return getNextIndex() != -1;
+        return awaitNext();
     }
 
     @Override
     public int available() {
-        // Advance to the end of the stream, counting along the way. Store
-        // previous state and reset to it afterwards.
-        RegionFileItr currentItr = this.regionFileItr;
-        Set<Path> currentOpenedFiles = Sets.newHashSet(this.openedFiles);
-        int count = 0;
-        int index = getNextIndex();
-        while (index != -1) {
-            count++;
-            this.regionFileItr.index = index + 1;
-            index = getNextIndex();
+        // Only the offset tables are read, no chunk is decompressed
+        int count = this.pending.size();
+        if (this.region != null) {
+            for (int i = this.chunkIndex; i < this.region.offsets.length; i++) {
+                if (this.region.offsets[i] != 0) {
+                    count++;
+                }
+            }
+        }
+        for (int i = this.fileIndex; i < this.files.size(); i++) {
+            try {
+                count += WorldStorageUtil.countChunks(this.files.get(i));
+            } catch (IOException e) {
+                throw Throwables.propagate(e);
+            }
         }
-        this.regionFileItr = currentItr;
-        this.openedFiles.clear();
-        this.openedFiles.addAll(currentOpenedFiles);
         return count;
     }
 
     @Override
     public void reset() {
-        this.regionFileItr = null;
-        this.openedFiles.clear();
+        // Pending reads are left to finish, the last one closes its region file
+        this.pending.clear();
+        if (this.region != null) {
+            this.region.finish();
+        }
+        this.files = Lists.newArrayList(WorldStorageUtil.listRegionFiles(this.worldDir));
+        this.fileIndex = 0;
+        this.region = null;
+        this.chunkIndex = 0;
+    }
+
+    /**
+     * A region file opened by this stream alone. It is closed by whichever
+     * thread finishes with it last, the stream moving past it or the last
+     * pending read.
+     */
+    private static final class ScanRegion {
+
+        final Path path;
+        final RegionFile file;
+        // The offset table as it was when the file was opened, later saves are not seen
+        final int[] offsets;
+        private int reads;
+        private boolean finished;
+
+        ScanRegion(Path path) {
+            this.path = path;
+            this.file = new RegionFile(path.toFile());
+            this.offsets = this.file.offsets;
+        }
+
+        synchronized void acquire() {
+            this.reads++;
+        }
+
+        synchronized void release() {
+            this.reads--;
+            closeIfDone();
+        }
+
+        synchronized void finish() {
+            this.finished = true;
+            closeIfDone();
+        }
+
+        private void closeIfDone() {
+            if (!this.finished || this.reads > 0) {
+                return;
+            }
+            try {
+                this.file.close();
+            } catch (IOException e) {
+                SpongeImpl.getLogger().warn("Failed to close region file {}", this.path, e);
+            }
+        }
+
     }
 
 }
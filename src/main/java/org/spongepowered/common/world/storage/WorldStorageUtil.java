@@ -41,15 +41,22 @@
 import java.io.DataInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
+import javax.annotation.Nullable;
+
 public class WorldStorageUtil {
 
+    private static final int REGION_OFFSET_TABLE_SIZE = 4096;
+
     public static CompletableFuture<Boolean> doesChunkExist(WorldServer world, IChunkLoader chunkLoader, Vector3i chunkCoords) {
         int x = chunkCoords.getX();
         int z = chunkCoords.getZ();
@@ -77,11 +84,20 @@ public static DataContainer readDataFromRegion(DataInputStream stream) throws IO
         if (stream == null) {
             return null;
         }
-        NBTTagCompound data = CompressedStreamTools.read(stream);
+        return translateChunkData(CompressedStreamTools.read(stream));
+    }
 
+    /**
+     * Translates the level data of a chunk read from a region file.
+     *
+     * @param data The chunk data
+     * @return The translated data, or null if the chunk is invalid
+     */
+    @Nullable
+    public static DataContainer translateChunkData(@Nullable NBTTagCompound data) {
         // Checks are based on AnvilChunkLoader#checkedReadChunkFromNBT
 
-        if (!data.hasKey(NbtDataUtil.CHUNK_DATA_LEVEL, NbtDataUtil.TAG_COMPOUND)) {
+        if (data == null || !data.hasKey(NbtDataUtil.CHUNK_DATA_LEVEL, NbtDataUtil.TAG_COMPOUND)) {
             return null;
         }
         NBTTagCompound level = data.getCompoundTag(NbtDataUtil.CHUNK_DATA_LEVEL);
@@ -91,6 +107,34 @@ public static DataContainer readDataFromRegion(DataInputStream stream) throws IO
         return NbtTranslator.getInstance().translateFrom(level);
     }
 
+    /**
+     * Reads whether the chunk is saved in its region file and has already
+     * been populated, without loading it into the world. Safe to call off
+     * the main thread.
+     *
+     * @param worldDir The directory of the world's region folder
+     * @param x The chunk x position
+     * @param z The chunk z position
+     * @return True if the chunk is saved and populated
+     * @throws IOException If the chunk data could not be read
+     */
+    public static boolean isChunkPopulated(File worldDir, int x, int z) throws IOException {
+        DataInputStream stream = RegionFileCache.getChunkInputStream(worldDir, x, z);
+        if (stream == null) {
+            return false;
+        }
+        NBTTagCompound data;
+        try {
+            data = CompressedStreamTools.read(stream);
+        } finally {
+            stream.close();
+        }
+        if (!data.hasKey(NbtDataUtil.CHUNK_DATA_LEVEL, NbtDataUtil.TAG_COMPOUND)) {
+            return false;
+        }
+        return data.getCompoundTag(NbtDataUtil.CHUNK_DATA_LEVEL).getBoolean(NbtDataUtil.CHUNK_DATA_TERRAIN_POPULATED);
+    }
+
     public static Iterable<Path> listRegionFiles(Path worldDir) {
         try (DirectoryStream<Path> stream = Files.newDirectoryStream(worldDir.resolve("region"), "*.mca")) {
             return Lists.newArrayList(stream);
@@ -99,20 +143,50 @@ public static Iterable<Path> listRegionFiles(Path worldDir) {
         }
     }
 
+    /**
+     * Counts the chunks stored in a region file by only reading its offset
+     * table.
+     *
+     * @param regionFilePath The region file
+     * @return The number of stored chunks
+     * @throws IOException If the file could not be read
+     */
+    public static int countChunks(Path regionFilePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(regionFilePath, StandardOpenOption.READ)) {
+            ByteBuffer table = ByteBuffer.allocate(REGION_OFFSET_TABLE_SIZE);
+            while (table.hasRemaining() && channel.read(table) != -1) {
+                // Keep reading until the table is complete
+            }
+            if (table.hasRemaining()) {
+                return 0;
+            }
+            int count = 0;
+            for (int i = 0; i < REGION_OFFSET_TABLE_SIZE; i += 4) {
+                if (table.getInt(i) != 0) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
     // Similar to RegionFileCache#createOrLoadRegionFile except this uses direct
     // file name instead of x,z
     public static RegionFile getRegionFile(Path regionFilePath) {
         File file = regionFilePath.toFile();
-        RegionFile regionFile = RegionFileCache.regionsByFilename.get(file);
-        if (regionFile != null) {
+        // The cache is otherwise only accessed through its static synchronized methods
+        synchronized (RegionFileCache.class) {
+            RegionFile regionFile = RegionFileCache.regionsByFilename.get(file);
+            if (regionFile != null) {
+                return regionFile;
+            }
+            if (RegionFileCache.regionsByFilename.size() >= 256) {
+                RegionFileCache.clearRegionFileReferences();
+            }
+            regionFile = new RegionFile(file);
+            RegionFileCache.regionsByFilename.put(file, regionFile);
             return regionFile;
         }
-        if (RegionFileCache.regionsByFilename.size() >= 256) {
-            RegionFileCache.clearRegionFileReferences();
-        }
-        regionFile = new RegionFile(file);
-        RegionFileCache.regionsByFilename.put(file, regionFile);
-        return regionFile;
     }
 
 }
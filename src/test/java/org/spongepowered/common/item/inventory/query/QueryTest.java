@@ -0,0 +1,94 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.item.inventory.query;
+
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import gnu.trove.set.hash.TIntHashSet;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.item.inventory.Inventory;
+import org.spongepowered.api.item.inventory.InventoryProperty;
+import org.spongepowered.common.item.inventory.adapter.InventoryAdapter;
+import org.spongepowered.common.item.inventory.lens.Fabric;
+import org.spongepowered.common.item.inventory.lens.Lens;
+
+import java.util.Collections;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class QueryTest {
+
+    private interface SlotAdapter extends InventoryAdapter<Object, Object> {
+    }
+
+    private final InventoryProperty<?, ?> property = mock(InventoryProperty.class);
+    private InventoryAdapter<Object, Object> adapter;
+    private Lens<Object, Object> root;
+
+    @Before
+    public void setUp() {
+        this.root = mock(Lens.class);
+        Lens<Object, Object> first = this.slot(0);
+        Lens<Object, Object> second = this.slot(1);
+        when(this.root.getChildren()).thenReturn(ImmutableList.of(first, second));
+        when(this.root.getSlots()).thenReturn(new TIntHashSet(new int[] {0, 1}));
+        when(this.root.getAdapterType()).thenReturn((Class) InventoryAdapter.class);
+        when(this.root.getProperties(first)).thenReturn(ImmutableList.of(this.property));
+        when(this.root.getProperties(second)).thenReturn(ImmutableList.of(this.property));
+
+        Fabric<Object> fabric = mock(Fabric.class);
+        this.adapter = mock(InventoryAdapter.class);
+        when(this.adapter.getInventory()).thenReturn(fabric);
+        when(this.adapter.getRootLens()).thenReturn(this.root);
+        when(this.root.getAdapter(fabric, null)).thenReturn(this.adapter);
+    }
+
+    private Lens<Object, Object> slot(int index) {
+        Lens<Object, Object> slot = mock(Lens.class);
+        when(slot.getChildren()).thenReturn(Collections.emptyList());
+        when(slot.getSlots()).thenReturn(new TIntHashSet(new int[] {index}));
+        when(slot.getAdapterType()).thenReturn((Class) SlotAdapter.class);
+        return slot;
+    }
+
+    @Test
+    public void testClassMatchesReducedToRoot() {
+        Inventory result = Query.compile(this.adapter, SlotAdapter.class).execute();
+        assertSame(this.adapter, result);
+        // Second run resolves the cached structural result
+        assertSame(this.adapter, Query.compile(this.adapter, SlotAdapter.class).execute());
+    }
+
+    @Test
+    public void testPropertyMatchesReducedToRoot() {
+        Inventory result = Query.compile(this.adapter, this.property).execute();
+        assertSame(this.adapter, result);
+        assertSame(this.adapter, Query.compile(this.adapter, this.property).execute());
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.profile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class BatchingResolverTest {
+
+    private static final long WINDOW_MILLIS = 50;
+
+    private final List<Collection<String>> batches = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService timer;
+
+    @Before
+    public void setUp() {
+        this.timer = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        this.timer.shutdownNow();
+    }
+
+    private BatchingResolver<String, String> createResolver(int maxBatchSize) {
+        return new BatchingResolver<>(keys -> {
+            this.batches.add(Sets.newHashSet(keys));
+            Map<String, String> result = Maps.newHashMap();
+            for (String key : keys) {
+                if (!key.startsWith("missing")) {
+                    result.put(key, key.toUpperCase());
+                }
+            }
+            return result;
+        }, "", this.timer, Runnable::run, WINDOW_MILLIS, maxBatchSize);
+    }
+
+    private static <T> T get(CompletableFuture<T> future) throws Exception {
+        return future.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testCoalescesRequestsForSameKey() throws Exception {
+        BatchingResolver<String, String> resolver = createResolver(100);
+        CompletableFuture<String> first = resolver.resolve("notch");
+        CompletableFuture<String> second = resolver.resolve("notch");
+        assertSame(first, second);
+        assertEquals("NOTCH", get(first));
+        assertEquals(1, this.batches.size());
+        assertEquals(0, resolver.getInFlightCount());
+    }
+
+    @Test
+    public void testBatchesRequestsWithinWindow() throws Exception {
+        BatchingResolver<String, String> resolver = createResolver(100);
+        CompletableFuture<String> a = resolver.resolve("a");
+        CompletableFuture<String> b = resolver.resolve("b");
+        CompletableFuture<String> c = resolver.resolve("c");
+        assertEquals("A", get(a));
+        assertEquals("B", get(b));
+        assertEquals("C", get(c));
+        assertEquals(1, this.batches.size());
+        assertEquals(Sets.newHashSet("a", "b", "c"), this.batches.get(0));
+    }
+
+    @Test
+    public void testFullBatchIsLookedUpImmediately() throws Exception {
+        BatchingResolver<String, String> resolver = createResolver(2);
+        CompletableFuture<String> a = resolver.resolve("a");
+        CompletableFuture<String> b = resolver.resolve("b");
+        // The direct executor ran the lookup before resolve returned
+        assertTrue(a.isDone());
+        assertTrue(b.isDone());
+        CompletableFuture<String> c = resolver.resolve("c");
+        assertEquals("C", get(c));
+        assertEquals(2, this.batches.size());
+    }
+
+    @Test
+    public void testMissingKeysResolveToDefault() throws Exception {
+        BatchingResolver<String, String> resolver = createResolver(100);
+        assertEquals("", get(resolver.resolve("missing")));
+    }
+
+    @Test
+    public void testResolvesAgainAfterCompletion() throws Exception {
+        BatchingResolver<String, String> resolver = createResolver(100);
+        get(resolver.resolve("a"));
+        get(resolver.resolve("a"));
+        assertEquals(2, this.batches.size());
+    }
+
+    @Test
+    public void testFailedLookupFailsAllRequests() throws Exception {
+        BatchingResolver<String, String> resolver = new BatchingResolver<>(keys -> {
+            throw new IllegalStateException("unavailable");
+        }, "", this.timer, Runnable::run, WINDOW_MILLIS, 100);
+        CompletableFuture<String> a = resolver.resolve("a");
+        CompletableFuture<String> b = resolver.resolve("b");
+        for (CompletableFuture<String> future : Arrays.asList(a, b)) {
+            try {
+                get(future);
+                fail("Expected the lookup to fail");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+        }
+        assertEquals(0, resolver.getInFlightCount());
+    }
+
+    @Test
+    public void testRejectedLookupFailsAllRequests() throws Exception {
+        BatchingResolver<String, String> resolver = new BatchingResolver<>(keys -> {
+            throw new AssertionError("The rejected lookup should never run");
+        }, "", this.timer, task -> {
+            throw new RejectedExecutionException("saturated");
+        }, WINDOW_MILLIS, 100);
+        // Flushed by the timer once the window ends
+        CompletableFuture<String> a = resolver.resolve("a");
+        CompletableFuture<String> b = resolver.resolve("b");
+        for (CompletableFuture<String> future : Arrays.asList(a, b)) {
+            try {
+                get(future);
+                fail("Expected the lookup to be rejected");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof RejectedExecutionException);
+            }
+        }
+        assertEquals(0, resolver.getInFlightCount());
+    }
+}
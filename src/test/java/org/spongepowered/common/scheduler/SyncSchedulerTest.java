@@ -0,0 +1,155 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.scheduler.Task;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public class SyncSchedulerTest {
+
+    private final PluginContainer plugin = mock(PluginContainer.class);
+    private final List<String> runs = new ArrayList<>();
+    private SyncScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        this.scheduler = new SyncScheduler();
+    }
+
+    private ScheduledTask submit(String name, long delay, boolean delayIsTicks, long interval, boolean intervalIsTicks) {
+        return submit(name, delay, delayIsTicks, interval, intervalIsTicks, task -> this.runs.add(name));
+    }
+
+    private ScheduledTask submit(String name, long delay, boolean delayIsTicks, long interval, boolean intervalIsTicks, Consumer<Task> consumer) {
+        ScheduledTask task = new ScheduledTask(ScheduledTask.TaskSynchronicity.SYNCHRONOUS, consumer, name, delay, delayIsTicks, interval,
+                intervalIsTicks, this.plugin);
+        this.scheduler.addTask(task);
+        return task;
+    }
+
+    private void tick(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            this.scheduler.tick();
+        }
+    }
+
+    @Test
+    public void testTasksRunInDeadlineOrder() {
+        submit("third", 3, true, 0, true);
+        submit("first", 1, true, 0, true);
+        submit("second", 2, true, 0, true);
+        tick(3);
+        assertEquals(Arrays.asList("first", "second", "third"), this.runs);
+        assertTrue(this.scheduler.getScheduledTasks().isEmpty());
+    }
+
+    @Test
+    public void testTickDelay() {
+        submit("delayed", 2, true, 0, true);
+        tick(1);
+        assertTrue(this.runs.isEmpty());
+        tick(1);
+        assertEquals(Arrays.asList("delayed"), this.runs);
+    }
+
+    @Test
+    public void testTickInterval() {
+        submit("repeating", 1, true, 2, true);
+        tick(5);
+        // Runs on the first tick and every second tick after it
+        assertEquals(Arrays.asList("repeating", "repeating", "repeating"), this.runs);
+    }
+
+    @Test
+    public void testTimeDelay() throws Exception {
+        submit("delayed", TimeUnit.MILLISECONDS.toNanos(50), false, 0, false);
+        tick(1);
+        assertTrue(this.runs.isEmpty());
+        Thread.sleep(100);
+        tick(1);
+        assertEquals(Arrays.asList("delayed"), this.runs);
+    }
+
+    @Test
+    public void testTimeAndTickTasksAreIndependent() throws Exception {
+        submit("time", TimeUnit.MILLISECONDS.toNanos(50), false, 0, false);
+        submit("ticks", 1000, true, 0, true);
+        Thread.sleep(100);
+        tick(1);
+        assertEquals(Arrays.asList("time"), this.runs);
+    }
+
+    @Test
+    public void testCancelledTaskDoesNotRun() {
+        ScheduledTask task = submit("cancelled", 1, true, 0, true);
+        submit("kept", 1, true, 0, true);
+        assertTrue(task.cancel());
+        assertFalse(this.scheduler.getTask(task.getUniqueId()).isPresent());
+        tick(1);
+        assertEquals(Arrays.asList("kept"), this.runs);
+    }
+
+    @Test
+    public void testRepeatingTaskCanCancelItself() {
+        submit("repeating", 0, true, 1, true, task -> {
+            this.runs.add("repeating");
+            if (this.runs.size() == 2) {
+                task.cancel();
+            }
+        });
+        tick(5);
+        assertEquals(Arrays.asList("repeating", "repeating"), this.runs);
+        assertTrue(this.scheduler.getScheduledTasks().isEmpty());
+    }
+
+    @Test
+    public void testCancelledTasksAreRemovedBeforeTheirDeadline() {
+        List<ScheduledTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tasks.add(submit("task" + i, 1000000, true, 0, true));
+        }
+        tick(1);
+        assertEquals(100, this.scheduler.getQueuedTaskCount());
+        for (ScheduledTask task : tasks.subList(0, 60)) {
+            task.cancel();
+        }
+        tick(1);
+        assertEquals(40, this.scheduler.getQueuedTaskCount());
+        assertEquals(40, this.scheduler.getScheduledTasks().size());
+    }
+}
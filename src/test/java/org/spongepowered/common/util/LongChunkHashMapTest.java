@@ -0,0 +1,108 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import net.minecraft.world.ChunkCoordIntPair;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class LongChunkHashMapTest {
+
+    private static final int RADIUS = 64;
+
+    @Test
+    public void testAddGetRemove() {
+        LongChunkHashMap<String> map = new LongChunkHashMap<>(4);
+        long key = ChunkCoordIntPair.chunkXZ2Int(0, 0);
+        assertNull(map.getValueByKey(key));
+        map.add(key, "origin");
+        assertSame("origin", map.getValueByKey(key));
+        assertTrue(map.containsItem(key));
+        map.add(key, "replaced");
+        assertSame("replaced", map.getValueByKey(key));
+        assertEquals(1, map.getNumHashElements());
+        assertSame("replaced", map.remove(key));
+        assertFalse(map.containsItem(key));
+        assertEquals(0, map.getNumHashElements());
+    }
+
+    @Test
+    public void testRandomAccess() {
+        Random random = new Random(42);
+        replay(random, (i) -> ChunkCoordIntPair.chunkXZ2Int(random.nextInt(RADIUS * 2) - RADIUS, random.nextInt(RADIUS * 2) - RADIUS));
+    }
+
+    @Test
+    public void testStridedAccess() {
+        Random random = new Random(1337);
+        replay(random, (i) -> ChunkCoordIntPair.chunkXZ2Int((i * 16) % (RADIUS * 2) - RADIUS, (i / (RADIUS * 2)) % (RADIUS * 2) - RADIUS));
+    }
+
+    @Test
+    public void testNeighbourWalk() {
+        Random random = new Random(7);
+        int[] position = new int[2];
+        replay(random, (i) -> {
+            position[random.nextInt(2)] += random.nextInt(3) - 1;
+            return ChunkCoordIntPair.chunkXZ2Int(position[0], position[1]);
+        });
+    }
+
+    private static void replay(Random random, KeySupplier keys) {
+        LongChunkHashMap<Long> map = new LongChunkHashMap<>(16);
+        Map<Long, Long> expected = new HashMap<>();
+        for (int i = 0; i < 200000; i++) {
+            long key = keys.next(i);
+            int action = random.nextInt(10);
+            if (action < 2) {
+                map.add(key, key);
+                expected.put(key, key);
+            } else if (action < 3) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.get(key), map.getValueByKey(key));
+            }
+        }
+        assertEquals(expected.size(), map.getNumHashElements());
+        for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.getValueByKey(entry.getKey()));
+        }
+    }
+
+    private interface KeySupplier {
+
+        long next(int iteration);
+
+    }
+}
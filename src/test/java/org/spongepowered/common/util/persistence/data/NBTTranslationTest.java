@@ -24,8 +24,11 @@
  */
 package org.spongepowered.common.util.persistence.data;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import com.google.common.collect.ImmutableList;
+import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -34,9 +37,15 @@
 import org.spongepowered.api.data.DataView;
 import org.spongepowered.api.data.MemoryDataContainer;
 import org.spongepowered.api.data.persistence.DataBuilder;
+import org.spongepowered.common.data.persistence.NbtStreamTranslator;
 import org.spongepowered.common.data.persistence.NbtTranslator;
 import org.spongepowered.api.data.DataManager;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.Optional;
 
 public class NBTTranslationTest {
@@ -63,4 +72,48 @@ public void testDotContainerKeys() {
         assertTrue(container.equals(translatedContainer));
     }
 
+    @Test
+    public void testStreamMatchesCompound() throws IOException {
+        final DataContainer container = createStreamContainer();
+        final NBTTagCompound compound = NbtTranslator.getInstance().translateData(container);
+
+        final ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+        NbtStreamTranslator.write(container, new DataOutputStream(streamed));
+        final NBTTagCompound read = CompressedStreamTools.read(new DataInputStream(new ByteArrayInputStream(streamed.toByteArray())));
+        assertEquals(compound, read);
+
+        final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        CompressedStreamTools.write(compound, new DataOutputStream(written));
+        final DataContainer streamedBack = NbtStreamTranslator.read(new DataInputStream(new ByteArrayInputStream(written.toByteArray())));
+        assertEquals(compound, NbtTranslator.getInstance().translateData(streamedBack));
+    }
+
+    @Test
+    public void testStreamRoundTrip() throws IOException {
+        final DataContainer container = createStreamContainer();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        NbtStreamTranslator.write(container, new DataOutputStream(output));
+        final DataContainer read = NbtStreamTranslator.read(new DataInputStream(new ByteArrayInputStream(output.toByteArray())));
+        // Compare as compounds, arrays in views are only equal by identity
+        assertEquals(NbtTranslator.getInstance().translateData(container), NbtTranslator.getInstance().translateData(read));
+    }
+
+    private static DataContainer createStreamContainer() {
+        final DataContainer container = new MemoryDataContainer();
+        container.set(DataQuery.of("string"), "value")
+                .set(DataQuery.of("flag"), true)
+                .set(DataQuery.of("byte"), (byte) 3)
+                .set(DataQuery.of("long"), 42L)
+                .set(DataQuery.of("double"), 1.5D)
+                .set(DataQuery.of("bytes"), new byte[] {1, 2, 3})
+                .set(DataQuery.of("ints"), new int[] {4, 5, 6})
+                .set(DataQuery.of("list"), ImmutableList.of("a", "b"))
+                .set(DataQuery.of("empty"), ImmutableList.of())
+                .set(DataQuery.of("dotted.key"), 1)
+                .set(DataQuery.of("nested", "inner", "flag"), false)
+                .set(DataQuery.of("nested", "inner", "value"), 7);
+        container.set(DataQuery.of("views"), ImmutableList.of(new MemoryDataContainer().set(DataQuery.of("id"), 1)));
+        return container;
+    }
+
 }